@@ -14,6 +14,7 @@ import {
     GetBoardResponseDto,
     GetCommentListResponseDto,
     GetFavoriteListResponseDto,
+    GetFavoriteSummaryResponseDto,
     GetLatestBoardListResponseDto,
     GetSearchBoardListResponseDto,
     GetTop3BoardListResponseDto,
@@ -215,29 +216,44 @@ export const patchProfileImageRequest = async (requestBody: PatchProfileImageReq
 const GET_BOARD_URL = (boardNumber: number | string) => (
     `${API_DOMAIN}/board/${boardNumber}`
 );
-const GET_LATEST_BOARD_LIST_URL = () => (
-    `${API_DOMAIN}/board/latest-list`
+const GET_LATEST_BOARD_LIST_URL = (cursor?: string | null) => (
+    cursor
+        ? `${API_DOMAIN}/board/latest-list?cursor=${encodeURIComponent(cursor)}`
+        : `${API_DOMAIN}/board/latest-list`
 )
 const GET_TOP_3_BOARD_LIST_URL = () => (
     `${API_DOMAIN}/board/top-3`
 )
-const GET_SEARCH_BOARD_LIST_URL = (searchWord: string, preSearchWord: string | null) => (
-    preSearchWord
+const GET_SEARCH_BOARD_LIST_URL = (searchWord: string, preSearchWord: string | null, page?: number | null) => (
+    (preSearchWord
         ? `${API_DOMAIN}/board/search-list/${searchWord}/${preSearchWord}`
-        : `${API_DOMAIN}/board/search-list/${searchWord}`
+        : `${API_DOMAIN}/board/search-list/${searchWord}`)
+    + (page ? `?page=${page}` : '')
 )
-const GET_USER_BOARD_LIST_URL = (email: string) => (
-    `${API_DOMAIN}/board/user-board-list/${email}`
+const GET_USER_BOARD_LIST_URL = (email: string, cursor?: string | null) => (
+    cursor
+        ? `${API_DOMAIN}/board/user-board-list/${email}?cursor=${encodeURIComponent(cursor)}`
+        : `${API_DOMAIN}/board/user-board-list/${email}`
 )
 
 const INCREASE_VIEW_COUNT_URL = (boardNumber: number | string) => (
     `${API_DOMAIN}/board/${boardNumber}/increase-view-count`
 )
-const GET_FAVORITE_LIST_URL = (boardNumber: number | string) => (
-    `${API_DOMAIN}/board/${boardNumber}/favorite-list`
+const GET_FAVORITE_SUMMARY_URL = (boardNumber: number | string) => (
+    `${API_DOMAIN}/board/${boardNumber}/favorite-summary`
 )
-const GET_COMMENT_LIST_URL = (boardNumber: number | string) => (
-    `${API_DOMAIN}/board/${boardNumber}/comment-list`
+const GET_FAVORITE_LIST_URL = (boardNumber: number | string, cursor?: string | null) => (
+    cursor
+        ? `${API_DOMAIN}/board/${boardNumber}/favorite-list?cursor=${encodeURIComponent(cursor)}`
+        : `${API_DOMAIN}/board/${boardNumber}/favorite-list`
+)
+const GET_COMMENT_LIST_URL = (boardNumber: number | string, cursor?: string | null) => (
+    cursor
+        ? `${API_DOMAIN}/board/${boardNumber}/comment-list?cursor=${encodeURIComponent(cursor)}`
+        : `${API_DOMAIN}/board/${boardNumber}/comment-list`
+)
+const GET_COMMENT_LIST_SINCE_URL = (boardNumber: number | string, cursor: string) => (
+    `${API_DOMAIN}/board/${boardNumber}/comment-list/since?cursor=${encodeURIComponent(cursor)}`
 )
 const POST_BOARD_URL = () => `${API_DOMAIN}/board`;
 
@@ -270,8 +286,8 @@ export const getBoardRequest = async (boardNumber: number | string) => {
     return result;
 }
 
-export const getLatestBoardListRequest = async () => {
-    const result = await axios.get(GET_LATEST_BOARD_LIST_URL())
+export const getLatestBoardListRequest = async (cursor?: string | null) => {
+    const result = await axios.get(GET_LATEST_BOARD_LIST_URL(cursor))
         .then(response => {
             const responseBody: GetLatestBoardListResponseDto = response.data;
             return responseBody;
@@ -302,8 +318,8 @@ export const getTop3BoardListRequest = async () => {
     return result;
 }
 
-export const getSearchBoardListRequest = async (searchWord: string, preSearchWord: string | null) => {
-    const result = await axios.get(GET_SEARCH_BOARD_LIST_URL(searchWord, preSearchWord))
+export const getSearchBoardListRequest = async (searchWord: string, preSearchWord: string | null, page?: number | null) => {
+    const result = await axios.get(GET_SEARCH_BOARD_LIST_URL(searchWord, preSearchWord, page))
         .then(response => {
             const responseBody: GetSearchBoardListResponseDto = response.data;
             return responseBody;
@@ -318,8 +334,8 @@ export const getSearchBoardListRequest = async (searchWord: string, preSearchWor
     return result;
 }
 
-export const getUserBoardListRequest = async (email: string) => {
-    const result = await axios.get(GET_USER_BOARD_LIST_URL(email))
+export const getUserBoardListRequest = async (email: string, cursor?: string | null) => {
+    const result = await axios.get(GET_USER_BOARD_LIST_URL(email, cursor))
         .then(response => {
             const responseBody: GetUserBoardListResponseDto = response.data;
             return responseBody;
@@ -349,8 +365,24 @@ export const increaseViewCountRequest = async (boardNumber: number | string) =>
     return result;
 }
 
-export const getFavoriteListRequest = async (boardNumber: number | string) => {
-    const result = await axios.get(GET_FAVORITE_LIST_URL(boardNumber))
+export const getFavoriteSummaryRequest = async (boardNumber: number | string, accessToken?: string) => {
+    const result = await axios.get(GET_FAVORITE_SUMMARY_URL(boardNumber), accessToken ? authorization(accessToken) : undefined)
+        .then(response => {
+            const responseBody: GetFavoriteSummaryResponseDto = response.data;
+            return responseBody;
+        })
+        .catch((error: AxiosError | any) => {
+            if (!error.response || !error.response.data)
+                return null;
+
+            const responseBody: ResponseDto = error.response.data;
+            return responseBody;
+        })
+    return result;
+}
+
+export const getFavoriteListRequest = async (boardNumber: number | string, cursor?: string | null) => {
+    const result = await axios.get(GET_FAVORITE_LIST_URL(boardNumber, cursor))
         .then(response => {
             const responseBody: GetFavoriteListResponseDto = response.data;
             return responseBody;
@@ -365,8 +397,24 @@ export const getFavoriteListRequest = async (boardNumber: number | string) => {
     return result;
 }
 
-export const getCommentListRequest = async (boardNumber: number | string) => {
-    const result = await axios.get(GET_COMMENT_LIST_URL(boardNumber))
+export const getCommentListRequest = async (boardNumber: number | string, cursor?: string | null) => {
+    const result = await axios.get(GET_COMMENT_LIST_URL(boardNumber, cursor))
+        .then(response => {
+            const responseBody: GetCommentListResponseDto = response.data;
+            return responseBody;
+        })
+        .catch((error: AxiosError | any) => {
+            if (!error.response || !error.response.data)
+                return null;
+
+            const responseBody: ResponseDto = error.response.data;
+            return responseBody;
+        })
+    return result;
+}
+
+export const getCommentListSinceRequest = async (boardNumber: number | string, cursor: string) => {
+    const result = await axios.get(GET_COMMENT_LIST_SINCE_URL(boardNumber, cursor))
         .then(response => {
             const responseBody: GetCommentListResponseDto = response.data;
             return responseBody;
@@ -3,4 +3,7 @@ import {CommentListItem} from "../../../types/interface";
 
 export default interface GetCommentListResponseDto extends ResponseDto {
     commentList: CommentListItem[];
+    nextCursor: string | null;
+    latestCursor: string | null;
+    totalCount: number | null;
 }
\ No newline at end of file
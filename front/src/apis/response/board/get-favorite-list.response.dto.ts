@@ -3,4 +3,5 @@ import {FavoriteListItem} from "../../../types/interface";
 
 export default interface GetFavoriteListResponseDto extends ResponseDto {
     favoriteList: FavoriteListItem[];
+    nextCursor: string | null;
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+import ResponseDto from "../response.dto";
+import {FavoriteListItem} from "../../../types/interface";
+
+export default interface GetFavoriteSummaryResponseDto extends ResponseDto {
+    favoriteCount: number;
+    favorite: boolean;
+    previewList: FavoriteListItem[];
+}
@@ -3,4 +3,5 @@ import {BoardListItem} from "../../../types/interface";
 
 export default interface GetLatestBoardListResponseDto extends ResponseDto {
     latestList: BoardListItem[];
+    nextCursor: string | null;
 }
\ No newline at end of file
@@ -3,4 +3,6 @@ import {BoardListItem} from "../../../types/interface";
 
 export default interface GetSearchBoardListResponseDto extends ResponseDto {
     searchList: BoardListItem[];
+    nextPage: number | null;
+    totalCount: number | null;
 }
\ No newline at end of file
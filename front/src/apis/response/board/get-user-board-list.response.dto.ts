@@ -3,4 +3,6 @@ import {BoardListItem} from "../../../types/interface";
 
 export default interface GetUserBoardListResponseDto extends ResponseDto {
     userBoardList: BoardListItem[];
+    nextCursor: string | null;
+    totalCount: number | null;
 }
\ No newline at end of file
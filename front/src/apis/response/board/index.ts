@@ -6,6 +6,7 @@ import PostCommentResponseDto from "./post-comment.response.dto";
 import DeleteBoardResponseDto from "./delete-board.response.dto";
 import GetCommentListResponseDto from "./get-comment-list.response.dto";
 import GetFavoriteListResponseDto from "./get-favorite-list.response.dto";
+import GetFavoriteSummaryResponseDto from "./get-favorite-summary.response.dto";
 import GetTop3BoardListResponseDto from "./get-top-3-board-list.response.dto";
 import GetUserBoardListResponseDto from "./get-user-board-list.response.dto";
 import IncreaseViewCountResponseDto from "./increase-view-count.response.dto";
@@ -21,6 +22,7 @@ export type {
     DeleteBoardResponseDto,
     GetCommentListResponseDto,
     GetFavoriteListResponseDto,
+    GetFavoriteSummaryResponseDto,
     GetTop3BoardListResponseDto,
     GetUserBoardListResponseDto,
     IncreaseViewCountResponseDto,
@@ -10,6 +10,9 @@ interface Props {
 
     viewPageList: number[];
     totalSection: number;
+
+    // 次のデータがある場合のみ指定 (「さらに読み込む」を表示)
+    onClickMore?: () => void;
 }
 
 // component: ページネーションコンポーネント
@@ -17,7 +20,7 @@ export default function Pagination(props: Props) {
 
     // state: プロパティ
     const {currentPage, currentSection, viewPageList, totalSection} = props;
-    const {setCurrentPage, setCurrentSection} = props;
+    const {setCurrentPage, setCurrentSection, onClickMore} = props;
 
     // event handler: ページ番号クリックイベントの処理
     const onClickPageNumberHandler = (page: number) => {
@@ -62,6 +65,14 @@ export default function Pagination(props: Props) {
                     <div className='icon expand-right-icon'></div>
                 </div>
             </div>
+            {onClickMore &&
+                <>
+                    <div className='pagination-divider'>{'\|'}</div>
+                    <div className='pagination-change-link-box'>
+                        <div className='pagination-change-link-text' onClick={onClickMore}>{'さらに読み込む'}</div>
+                    </div>
+                </>
+            }
         </div>
     )
 }
\ No newline at end of file
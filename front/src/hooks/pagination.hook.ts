@@ -1,4 +1,4 @@
-import {useEffect, useState} from "react";
+import {useEffect, useRef, useState} from "react";
 
 const usePagination = <T>(countPerPage: number) => {
 
@@ -16,6 +16,14 @@ const usePagination = <T>(countPerPage: number) => {
     const [currentSection, setCurrentSection] = useState<number>(1);
     // state: 全セクション数の状態
     const [totalSection, setTotalSection] = useState<number>(1);
+    // ref: 追加読み込みの場合は現在のページを維持する
+    const keepPageRef = useRef<boolean>(false);
+
+    // function: 続きのアイテムを全リストの末尾に追加
+    const appendTotalList = (list: T[]) => {
+        keepPageRef.current = true;
+        setTotalList(totalList => [...totalList, ...list]);
+    }
 
     // effect: 全リストが変更されるたびに実行する処理
     useEffect(() => {
@@ -33,9 +41,12 @@ const usePagination = <T>(countPerPage: number) => {
         const totalSectionCount = Math.ceil(totalPage / 10);
         setTotalSection(totalSectionCount);
 
-        // ページとセクションの初期化
-        setCurrentPage(1);
-        setCurrentSection(1);
+        // ページとセクションの初期化 (追加読み込みの場合は維持)
+        if (!keepPageRef.current) {
+            setCurrentPage(1);
+            setCurrentSection(1);
+        }
+        keepPageRef.current = false;
 
     }, [totalList, countPerPage])
 
@@ -63,7 +74,8 @@ const usePagination = <T>(countPerPage: number) => {
         viewList,
         viewPageList,
         totalSection,
-        setTotalList
+        setTotalList,
+        appendTotalList
     }
 }
 
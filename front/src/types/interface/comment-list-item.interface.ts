@@ -1,4 +1,5 @@
 export default interface CommentListItem {
+    commentNumber: number;
     nickname: string;
     profileImage: string | null;
     writeDatetime: string;
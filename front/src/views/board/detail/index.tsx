@@ -12,7 +12,9 @@ import {
     deleteBoardRequest,
     getBoardRequest,
     getCommentListRequest,
+    getCommentListSinceRequest,
     getFavoriteListRequest,
+    getFavoriteSummaryRequest,
     increaseViewCountRequest,
     postCommentRequest,
     putFavoriteRequest
@@ -23,6 +25,7 @@ import {
     DeleteBoardResponseDto,
     GetCommentListResponseDto,
     GetFavoriteListResponseDto,
+    GetFavoriteSummaryResponseDto,
     IncreaseViewCountResponseDto,
     PostCommentResponseDto,
     PutFavoriteResponseDto
@@ -222,11 +225,14 @@ export default function BoardDetail() {
             viewList,
             viewPageList,
             totalSection,
-            setTotalList
+            setTotalList,
+            appendTotalList
         } = usePagination<CommentListItem>(5);
 
-        // state: いいねリスト状態
+        // state: いいねリスト状態 (先頭の数件、もっと見るで追加取得)
         const [favoriteList, setFavoriteList] = useState<FavoriteListItem[]>([]);
+        // state: いいね数状態
+        const [favoriteCount, setFavoriteCount] = useState<number>(0);
         // state: いいね状態
         const [isFavorite, setIsFavorite] = useState<boolean>(false);
         // state: いいねリスト表示状態
@@ -237,9 +243,15 @@ export default function BoardDetail() {
         const [comment, setComment] = useState<string>('');
         // state: コメントリスト表示状態
         const [showComment, setShowComment] = useState<boolean>(false);
-
-        // function: get favorite list response処理関数
-        const getFavoriteListResponse = (responseBody: GetFavoriteListResponseDto | ResponseDto | null) => {
+        // state: 取得済みコメントリスト状態
+        const [commentList, setCommentList] = useState<CommentListItem[]>([]);
+        // state: 新着コメント取得用カーソル状態
+        const [latestCursor, setLatestCursor] = useState<string | null>(null);
+        // state: 以前のコメント取得用カーソル状態 (null なら最後まで読み込み済み)
+        const [nextCursor, setNextCursor] = useState<string | null>(null);
+
+        // function: get favorite summary response処理関数
+        const getFavoriteSummaryResponse = (responseBody: GetFavoriteSummaryResponseDto | ResponseDto | null) => {
             if (!responseBody) return;
 
             const { code } = responseBody;
@@ -252,15 +264,28 @@ export default function BoardDetail() {
             if (code !== 'SU')
                 return;
 
-            const { favoriteList } = responseBody as GetFavoriteListResponseDto;
-            setFavoriteList(favoriteList);
+            const { favoriteCount, favorite, previewList } = responseBody as GetFavoriteSummaryResponseDto;
+            setFavoriteCount(favoriteCount);
+            setFavoriteList(previewList);
+            setIsFavorite(!!loginUser && favorite);
+        }
 
-            if (!loginUser) {
-                setIsFavorite(false);
+        // function: get favorite list response処理関数 (次のページを追加)
+        const getFavoriteListResponse = (responseBody: GetFavoriteListResponseDto | ResponseDto | null) => {
+            if (!responseBody) return;
+
+            const { code } = responseBody;
+            if (code === 'NB')
+                console.error('存在しない掲示物です。');
+
+            if (code === 'DBE')
+                console.error('データベースエラーが発生しました。');
+
+            if (code !== 'SU')
                 return;
-            }
-            const isFavorite = favoriteList.findIndex(favorite => favorite.email === loginUser.email) !== -1;
-            setIsFavorite(isFavorite);
+
+            const { favoriteList: nextFavoriteList } = responseBody as GetFavoriteListResponseDto;
+            setFavoriteList([...favoriteList, ...nextFavoriteList]);
         }
 
         // function: get comment list response処理関数
@@ -277,9 +302,63 @@ export default function BoardDetail() {
             if (code !== 'SU')
                 return;
 
-            const { commentList } = responseBody as GetCommentListResponseDto;
+            const { commentList, nextCursor, latestCursor, totalCount } = responseBody as GetCommentListResponseDto;
+            setCommentList(commentList);
             setTotalList(commentList);
-            setTotalCommentCount(commentList.length);
+            // 総数は掲示物のコメント数 (最初のページでのみ返される)
+            setTotalCommentCount(totalCount ?? commentList.length);
+            setNextCursor(nextCursor);
+            setLatestCursor(latestCursor);
+        }
+
+        // function: get older comment list response処理関数 (以前のコメントを末尾に追加)
+        const getOlderCommentListResponse = (responseBody: GetCommentListResponseDto | ResponseDto | null) => {
+            if (!responseBody) return;
+
+            const { code } = responseBody;
+            if (code === 'NB')
+                console.error('存在しない掲示物です。');
+
+            if (code === 'DBE')
+                console.error('データベースエラーが発生しました。');
+
+            if (code !== 'SU')
+                return;
+
+            const { commentList: olderCommentList, nextCursor } = responseBody as GetCommentListResponseDto;
+            // 取得の間に新着コメントで押し出されたコメントは既に読み込み済みのため除外
+            const loadedNumbers = new Set(commentList.map(item => item.commentNumber));
+            const addedCommentList = olderCommentList.filter(item => !loadedNumbers.has(item.commentNumber));
+
+            setCommentList([...commentList, ...addedCommentList]);
+            appendTotalList(addedCommentList);
+            setNextCursor(nextCursor);
+        }
+
+        // function: get comment list since response処理関数 (新着コメントのみ先頭に追加)
+        const getCommentListSinceResponse = (responseBody: GetCommentListResponseDto | ResponseDto | null) => {
+            if (!responseBody) return;
+
+            const { code } = responseBody;
+            if (code === 'NB')
+                console.error('存在しない掲示物です。');
+
+            if (code === 'DBE')
+                console.error('データベースエラーが発生しました。');
+
+            if (code !== 'SU')
+                return;
+
+            const { commentList: newCommentList, latestCursor, totalCount } = responseBody as GetCommentListResponseDto;
+            // 同じ秒のコメントは再送されるため、コメント番号で重複を除外
+            const loadedNumbers = new Set(commentList.map(item => item.commentNumber));
+            const addedCommentList = newCommentList.filter(item => !loadedNumbers.has(item.commentNumber));
+            const mergedCommentList = [...addedCommentList, ...commentList];
+
+            setCommentList(mergedCommentList);
+            setTotalList(mergedCommentList);
+            setTotalCommentCount(totalCount ?? totalCommentCount + addedCommentList.length);
+            setLatestCursor(latestCursor);
         }
 
         // function: put favorite response処理関数
@@ -308,7 +387,7 @@ export default function BoardDetail() {
             if (!boardNumber)
                 return;
 
-            getFavoriteListRequest(boardNumber).then(getFavoriteListResponse);
+            getFavoriteSummaryRequest(boardNumber, cookie.accessToken).then(getFavoriteSummaryResponse);
         }
 
         // function: post comment response処理関数
@@ -338,7 +417,16 @@ export default function BoardDetail() {
 
             if (!boardNumber)
                 return;
-            getCommentListRequest(boardNumber).then(getCommentListResponse);
+            if (latestCursor)
+                getCommentListSinceRequest(boardNumber, latestCursor).then(getCommentListSinceResponse);
+            else
+                getCommentListRequest(boardNumber).then(getCommentListResponse);
+        }
+
+        // event handler: 「さらに読み込む」クリックで以前のコメントを取得
+        const onClickMoreCommentHandler = () => {
+            if (!boardNumber || !nextCursor) return;
+            getCommentListRequest(boardNumber, nextCursor).then(getOlderCommentListResponse);
         }
 
         // event handler: いいねクリックイベント
@@ -354,6 +442,15 @@ export default function BoardDetail() {
             setShowFavorite(!showFavorite);
         }
 
+        // event handler: いいねリストもっと見るクリックイベント (メール順なので最後のメールをカーソルに使用)
+        const onClickMoreFavoriteButton = () => {
+            if (!boardNumber || favoriteList.length === 0)
+                return;
+
+            const cursor = favoriteList[favoriteList.length - 1].email;
+            getFavoriteListRequest(boardNumber, cursor).then(getFavoriteListResponse);
+        }
+
         // event handler: コメントリスト表示ボタンクリックイベント
         const onClickShowCommentButton = () => {
             setShowComment(!showComment);
@@ -382,7 +479,7 @@ export default function BoardDetail() {
         // effect: 掲示物番号が変わるたびにいいねとコメントリストを取得
         useEffect(() => {
             if (!boardNumber) return;
-            getFavoriteListRequest(boardNumber).then(getFavoriteListResponse);
+            getFavoriteSummaryRequest(boardNumber, cookie.accessToken).then(getFavoriteSummaryResponse);
             getCommentListRequest(boardNumber).then(getCommentListResponse)
         }, [boardNumber]);
 
@@ -397,7 +494,7 @@ export default function BoardDetail() {
                                 <div className='icon favorite-light-icon'></div>
                             }
                         </div>
-                        <div className='board-detail-bottom-button-text'>{`いいね ${favoriteList.length}`}</div>
+                        <div className='board-detail-bottom-button-text'>{`いいね ${favoriteCount}`}</div>
                         <div className='icon-button' onClick={onClickShowFavoriteButton}>
                             {showFavorite ?
                                 <div className='icon up-light-icon'></div> :
@@ -421,10 +518,13 @@ export default function BoardDetail() {
                 {showFavorite && (
                     <div className='board-detail-bottom-favorite-box'>
                         <div className='board-detail-bottom-favorite-container'>
-                            <div className='board-detail-bottom-favorite-title'>{`いいね `}<span className='emphasis'>{favoriteList.length}</span></div>
+                            <div className='board-detail-bottom-favorite-title'>{`いいね `}<span className='emphasis'>{favoriteCount}</span></div>
                             <div className='board-detail-bottom-favorite-contents'>
                                 {favoriteList.map((item, index) => <FavoriteItem key={index} favoriteListItem={item} />)}
                             </div>
+                            {favoriteList.length < favoriteCount && (
+                                <div className='board-detail-bottom-favorite-more' onClick={onClickMoreFavoriteButton}>{'もっと見る'}</div>
+                            )}
                         </div>
                     </div>
                 )}
@@ -445,6 +545,7 @@ export default function BoardDetail() {
                                 setCurrentSection={setCurrentSection}
                                 viewPageList={viewPageList}
                                 totalSection={totalSection}
+                                onClickMore={nextCursor ? onClickMoreCommentHandler : undefined}
                             />
                         </div>
                         {loginUser !== null &&
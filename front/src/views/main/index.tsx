@@ -67,9 +67,13 @@ export default function Main() {
             viewList,
             viewPageList,
             totalSection,
-            setTotalList
+            setTotalList,
+            appendTotalList
         } = usePagination<BoardListItem>(5);
 
+        // state: 次のページのカーソル (null なら最後まで読み込み済み)
+        const [nextCursor, setNextCursor] = useState<string | null>(null);
+
         const [popularWordList, setPopularWordList] = useState<string[]>([]);
 
         const onClickPopularWordHandler = (word: string) => {
@@ -81,8 +85,25 @@ export default function Main() {
             const { code } = responseBody;
             if (code === 'DBE') alert('データベースエラーが発生しました。');
             if (code !== 'SU') return;
-            const { latestList } = responseBody as GetLatestBoardListResponseDto;
+            const { latestList, nextCursor } = responseBody as GetLatestBoardListResponseDto;
             setTotalList(latestList);
+            setNextCursor(nextCursor);
+        }
+
+        const getMoreLatestBoardListResponse = (responseBody: GetLatestBoardListResponseDto | ResponseDto | null) => {
+            if (!responseBody) return;
+            const { code } = responseBody;
+            if (code === 'DBE') alert('データベースエラーが発生しました。');
+            if (code !== 'SU') return;
+            const { latestList, nextCursor } = responseBody as GetLatestBoardListResponseDto;
+            appendTotalList(latestList);
+            setNextCursor(nextCursor);
+        }
+
+        // event handler: 「さらに読み込む」クリックで続きの投稿を取得
+        const onClickMoreHandler = () => {
+            if (!nextCursor) return;
+            getLatestBoardListRequest(nextCursor).then(getMoreLatestBoardListResponse);
         }
 
         const getPopularListResponse = (responseBody: GetPopularListResponseDto | ResponseDto | null) => {
@@ -134,6 +155,7 @@ export default function Main() {
                             setCurrentSection={setCurrentSection}
                             viewPageList={viewPageList}
                             totalSection={totalSection}
+                            onClickMore={nextCursor ? onClickMoreHandler : undefined}
                         />
                     </div>
                 </div>
@@ -26,7 +26,8 @@ export default function Search() {
         viewList,
         viewPageList,
         totalSection,
-        setTotalList
+        setTotalList,
+        appendTotalList
     } = usePagination<BoardListItem>(5);
 
     // state: 前回の検索ワード状態
@@ -35,6 +36,9 @@ export default function Search() {
     // state: 検索結果の件数状態
     const [searchBoardCount, setSearchBoardCount] = useState<number>(0);
 
+    // state: 次のページ番号状態 (null なら最後まで読み込み済み)
+    const [nextPage, setNextPage] = useState<number | null>(null);
+
     // state: 関連キーワードリスト状態
     const [relativeWordlist, setRelativeWordlist] = useState<string[]>([]);
 
@@ -53,13 +57,30 @@ export default function Search() {
             return;
 
         if (!searchWord) return;
-        const { searchList } = responseBody as GetSearchBoardListResponseDto;
+        const { searchList, nextPage, totalCount } = responseBody as GetSearchBoardListResponseDto;
 
         setTotalList(searchList);
-        setSearchBoardCount(searchList.length);
+        setSearchBoardCount(totalCount ?? searchList.length);
+        setNextPage(nextPage);
         setPreSearchWord(searchWord);
     };
 
+    // function: 続きの検索結果 response 処理関数
+    const getMoreSearchBoardListResponse = (responseBody: GetSearchBoardListResponseDto | ResponseDto | null) => {
+        if (!responseBody) return;
+        const { code } = responseBody;
+
+        if (code === 'DBE')
+            alert('データベースエラーが発生しました。');
+
+        if (code !== 'SU')
+            return;
+
+        const { searchList, nextPage } = responseBody as GetSearchBoardListResponseDto;
+        appendTotalList(searchList);
+        setNextPage(nextPage);
+    };
+
     // function: get relation list response 処理関数
     const getRelationListResponse = (responseBody: GetRelationListResponseDto | ResponseDto | null) => {
         if (!responseBody) return;
@@ -75,6 +96,12 @@ export default function Search() {
         setRelativeWordlist(relativeWordList || []);
     };
 
+    // event handler: 「さらに読み込む」クリックで続きの検索結果を取得
+    const onClickMoreHandler = () => {
+        if (!searchWord || nextPage === null) return;
+        getSearchBoardListRequest(searchWord, null, nextPage).then(getMoreSearchBoardListResponse);
+    };
+
     // event handler: 関連キーワードクリックイベント処理
     const onClickRelationWordHandler = (word: string) => {
         navigate(SEARCH_PATH(word));
@@ -149,6 +176,7 @@ export default function Search() {
                             setCurrentSection={setCurrentSection}
                             viewPageList={viewPageList}
                             totalSection={totalSection}
+                            onClickMore={nextPage !== null ? onClickMoreHandler : undefined}
                         />
                     )}
                 </div>
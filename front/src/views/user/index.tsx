@@ -241,12 +241,16 @@ export default function User() {
             viewList,
             viewPageList,
             totalSection,
-            setTotalList
+            setTotalList,
+            appendTotalList
         } = usePagination<BoardListItem>(5);
 
         // state: 掲示物の総数ステート
         const [boardCount, setBoardCount] = useState(2);
 
+        // state: 次のページのカーソル (null なら最後まで読み込み済み)
+        const [nextCursor, setNextCursor] = useState<string | null>(null);
+
         // function: ユーザーの掲示物リスト取得 (getUserBoardList) レスポンス処理関数
         const getUserBoardListResponse = (responseBody: GetUserBoardListResponseDto | ResponseDto | null) => {
             if (!responseBody) return;
@@ -264,9 +268,33 @@ export default function User() {
             if (code !== 'SU')
                 return;
 
-            const { userBoardList } = responseBody as GetUserBoardListResponseDto;
+            const { userBoardList, nextCursor, totalCount } = responseBody as GetUserBoardListResponseDto;
             setTotalList(userBoardList);
-            setBoardCount(userBoardList.length);
+            setNextCursor(nextCursor);
+            // 総数は最初のページでのみ返される
+            setBoardCount(totalCount ?? userBoardList.length);
+        }
+
+        // function: 続きの掲示物リスト取得レスポンス処理関数
+        const getMoreUserBoardListResponse = (responseBody: GetUserBoardListResponseDto | ResponseDto | null) => {
+            if (!responseBody) return;
+
+            const { code } = responseBody;
+            if (code === 'DBE')
+                alert('データベースエラーが発生しました。')
+
+            if (code !== 'SU')
+                return;
+
+            const { userBoardList, nextCursor } = responseBody as GetUserBoardListResponseDto;
+            appendTotalList(userBoardList);
+            setNextCursor(nextCursor);
+        }
+
+        // event handler: 「さらに読み込む」クリックで続きの投稿を取得
+        const onClickMoreHandler = () => {
+            if (!userEmail || !nextCursor) return;
+            getUserBoardListRequest(userEmail, nextCursor).then(getMoreUserBoardListResponse);
         }
 
         // event handler: サイドカードクリックイベント処理
@@ -328,6 +356,7 @@ export default function User() {
                                 setCurrentSection={setCurrentSection}
                                 viewPageList={viewPageList}
                                 totalSection={totalSection}
+                                onClickMore={nextCursor ? onClickMoreHandler : undefined}
                             />
                         }
                     </div>
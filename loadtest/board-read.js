@@ -0,0 +1,75 @@
+// 게시물 조회 부하 테스트 (k6)
+// 플랫폼 스레드/가상 스레드(spring.threads.virtual.enabled) 모드의 처리량과 p99 비교용, 절차는 loadtest/README.md 참고
+//
+// k6 run -e BASE_URL=http://localhost:8080 -e BOARD_MAX=20000 loadtest/board-read.js
+//
+// BASE_URL   : 서버 주소 (기본 http://localhost:8080)
+// BOARD_MAX  : 1 ~ BOARD_MAX 의 게시물 번호를 무작위 조회, 캐시 크기(기본 10000)보다 크게 두어 miss(DB 조회)를 섞음
+// TOKEN      : 있으면 Authorization: Bearer 로 보내 인증 경로(AuthenticatedUserCache)도 거침
+// RATE       : 최대 초당 요청 수 (기본 2000), DURATION: 단계별 시간 (기본 1m)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BOARD_MAX = parseInt(__ENV.BOARD_MAX || '20000');
+const RATE = parseInt(__ENV.RATE || '2000');
+const DURATION = __ENV.DURATION || '1m';
+const API = `${BASE_URL}/api/v1/board`;
+
+const params = __ENV.TOKEN ? { headers: { Authorization: `Bearer ${__ENV.TOKEN}` } } : {};
+
+export const options = {
+    scenarios: {
+        // 요청 수를 단계별로 올려 각 단계의 처리량/지연 시간을 비교 (응답이 밀리면 dropped_iterations 로 드러남)
+        reads: {
+            executor: 'ramping-arrival-rate',
+            startRate: Math.floor(RATE / 4),
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: Math.floor(RATE / 4), duration: DURATION },
+                { target: Math.floor(RATE / 2), duration: DURATION },
+                { target: RATE, duration: DURATION },
+                { target: RATE, duration: DURATION },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// VU 별로 상세 조회에서 본 작성자 이메일 (작성자별 목록 조회에 사용)
+const writerEmails = [];
+
+function randomBoardNumber() {
+    return Math.floor(Math.random() * BOARD_MAX) + 1;
+}
+
+// 상세 50%, 댓글 목록 20%, 좋아요 요약 15%, 작성자별 목록 10%, 최신 목록 5%
+// 없는 게시물 번호는 400(NOT_EXISTED_BOARD) 으로 응답하므로 정상으로 봄
+export default function () {
+    const boardNumber = randomBoardNumber();
+    const dice = Math.random();
+
+    if (dice < 0.5) {
+        const response = http.get(`${API}/${boardNumber}`, Object.assign({ tags: { name: 'board' } }, params));
+        check(response, { 'board ok': (r) => r.status === 200 || r.status === 400 });
+        if (response.status === 200 && writerEmails.length < 100) {
+            const writerEmail = response.json('writerEmail');
+            if (writerEmail) writerEmails.push(writerEmail);
+        }
+    } else if (dice < 0.7) {
+        const response = http.get(`${API}/${boardNumber}/comment-list`, Object.assign({ tags: { name: 'comment-list' } }, params));
+        check(response, { 'comment-list ok': (r) => r.status === 200 || r.status === 400 });
+    } else if (dice < 0.85) {
+        const response = http.get(`${API}/${boardNumber}/favorite-summary`, Object.assign({ tags: { name: 'favorite-summary' } }, params));
+        check(response, { 'favorite-summary ok': (r) => r.status === 200 || r.status === 400 });
+    } else if (dice < 0.95 && writerEmails.length > 0) {
+        const writerEmail = writerEmails[Math.floor(Math.random() * writerEmails.length)];
+        const response = http.get(`${API}/user-board-list/${encodeURIComponent(writerEmail)}`, Object.assign({ tags: { name: 'user-board-list' } }, params));
+        check(response, { 'user-board-list 200': (r) => r.status === 200 });
+    } else {
+        const response = http.get(`${API}/latest-list`, Object.assign({ tags: { name: 'latest-list' } }, params));
+        check(response, { 'latest-list 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,55 @@
+package board.cache;
+
+import board.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 존재가 확인된 사용자 이메일 캐시
+// 로그인 시 또는 첫 조회 시 채워지며, 존재하지 않는 이메일은 캐시하지 않음 (가입 직후 바로 반영)
+// 사용자 삭제 기능은 아직 없어 TTL 로 DB 와의 차이를 제한하되, DB 에서 사용자가 없음이 확인되면 invalidate 로 바로 제거
+// (사용자 삭제/탈퇴 기능을 추가할 때도 같은 트랜잭션 커밋 후 invalidate 호출 필요)
+// 모든 인증 요청이 거치므로 존재 확인 조회는 잠금 밖 호출 스레드에서 실행 (CacheLoading 참고)
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<String, Boolean> cache;
+
+    public AuthenticatedUserCache(
+        UserRepository userRepository,
+        MeterRegistry meterRegistry,
+        @Value("${board.cache.authenticated-user.maximum-size:100000}") long maximumSize,
+        @Value("${board.cache.authenticated-user.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "authenticatedUser");
+    }
+
+    public boolean exists(String email) {
+        if (email == null) return false;
+        Boolean existed = CacheLoading.get(cache, email, key -> userRepository.existsByEmail(key) ? Boolean.TRUE : null);
+        return existed != null;
+    }
+
+    public void put(String email) {
+        cache.synchronous().put(email, Boolean.TRUE);
+    }
+
+    public void invalidate(String email) {
+        if (email == null) return;
+        cache.synchronous().invalidate(email);
+    }
+
+}
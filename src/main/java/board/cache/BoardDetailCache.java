@@ -0,0 +1,61 @@
+package board.cache;
+
+import board.dto.response.board.GetBoardResponseDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 게시물 상세(GetBoardResponseDto) 캐시
+// 작성자 닉네임/프로필 이미지가 포함되므로 게시물 수정/삭제뿐 아니라 작성자 정보 변경 시에도 무효화
+// 동기 Cache.get 은 ConcurrentHashMap.compute 의 bin 잠금(synchronized) 안에서 loader(DB 조회)를 실행하여
+// 가상 스레드가 carrier 에 고정(pinning)되므로, CacheLoading 으로 자리(future)만 맵에 넣고 조회는 잠금 밖에서 실행
+@Component
+public class BoardDetailCache {
+
+    private final AsyncCache<Integer, GetBoardResponseDto> cache;
+
+    public BoardDetailCache(
+        MeterRegistry meterRegistry,
+        @Value("${board.cache.board-detail.maximum-size:10000}") long maximumSize,
+        @Value("${board.cache.board-detail.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .buildAsync();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "boardDetail");
+    }
+
+    // loader 가 null 을 반환하면(존재하지 않는 게시물) 캐시하지 않음
+    public GetBoardResponseDto get(Integer boardNumber, Function<Integer, GetBoardResponseDto> loader) {
+        return CacheLoading.get(cache, boardNumber, loader);
+    }
+
+    // 통계(hit/miss)에 포함하지 않는 존재 확인
+    public boolean contains(Integer boardNumber) {
+        return cache.synchronous().asMap().containsKey(boardNumber);
+    }
+
+    public void invalidate(Integer boardNumber) {
+        cache.synchronous().invalidate(boardNumber);
+    }
+
+    public void invalidateWriter(String writerEmail) {
+        cache.synchronous().asMap().values().removeIf(board -> writerEmail.equals(board.getWriterEmail()));
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+}
@@ -0,0 +1,41 @@
+package board.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// ConcurrentHashMap bin 잠금 밖에서 loader 를 실행하는 AsyncCache 조회
+// AsyncCache.get(key, Function) 은 executor 가 Runnable::run 이면 loader 를 computeIfAbsent 안에서 실행하여
+// 가상 스레드가 carrier 에 고정(pinning)되므로, 빈 future 만 putIfAbsent 로 넣고 loader 는 호출 스레드에서 잠금 없이 실행
+// 같은 키를 동시에 조회한 요청은 먼저 넣은 future 를 기다림 (join 은 가상 스레드를 고정하지 않음)
+public final class CacheLoading {
+
+    private CacheLoading() {
+    }
+
+    // loader 가 null 을 반환하거나 예외가 나면 캐시하지 않음 (기다리던 요청도 같은 결과)
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        // 조회 통계(hit/miss)는 getIfPresent 에서 기록
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) return cached.join();
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> prior = cache.asMap().putIfAbsent(key, future);
+        if (prior != null) return prior.join();
+
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (value == null) cache.asMap().remove(key, future);
+        future.complete(value);
+        return value;
+    }
+
+}
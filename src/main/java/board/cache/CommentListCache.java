@@ -0,0 +1,59 @@
+package board.cache;
+
+import board.repository.resultSet.GetCommentListResultSet;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+// 게시물별 댓글 목록 첫 페이지(기본 크기) 캐시
+// 댓글 작성, 게시물 삭제 시 무효화
+// 댓글 작성자의 닉네임/프로필 이미지 변경은 무효화하지 않으므로 TTL 만큼 늦게 반영될 수 있음
+// loader 는 잠금 밖 호출 스레드에서 실행 (CacheLoading 참고)
+@Component
+public class CommentListCache {
+
+    private final AsyncCache<Integer, Page> cache;
+
+    public CommentListCache(
+        MeterRegistry meterRegistry,
+        @Value("${board.cache.comment-list.maximum-size:10000}") long maximumSize,
+        @Value("${board.cache.comment-list.expire-after-write-seconds:60}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "commentList");
+    }
+
+    // loader 가 null 을 반환하면(존재하지 않는 게시물) 캐시하지 않음
+    public Page get(Integer boardNumber, Function<Integer, Page> loader) {
+        return CacheLoading.get(cache, boardNumber, loader);
+    }
+
+    public void invalidate(Integer boardNumber) {
+        cache.synchronous().invalidate(boardNumber);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Page {
+        private List<GetCommentListResultSet> commentList;
+        private String nextCursor;
+        private String latestCursor;
+        // 게시물의 전체 댓글 수 (첫 페이지에서만, 이어지는 페이지는 null)
+        private Integer totalCount;
+    }
+
+}
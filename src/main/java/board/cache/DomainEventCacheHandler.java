@@ -0,0 +1,60 @@
+package board.cache;
+
+import board.event.BoardDeletedEvent;
+import board.event.BoardPatchedEvent;
+import board.event.BoardPostedEvent;
+import board.event.CommentPostedEvent;
+import board.event.DomainEvent;
+import board.event.DomainEventHandler;
+import board.event.FavoriteToggledEvent;
+import board.event.UserProfileChangedEvent;
+import board.favorite.BoardFavoriteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 캐시 무효화/좋아요 집합 갱신
+// outbox 로 모든 인스턴스에 전달되므로 다른 인스턴스의 변경도 TTL 전에 반영됨
+// 무효화와 좋아요 집합 추가/제거는 여러 번 반영되어도 결과가 같으므로, 커밋 직후 이 인스턴스에 먼저 반영(DomainEventCacheListener)된 이벤트가 다시 전달되어도 무방
+@Component
+@RequiredArgsConstructor
+public class DomainEventCacheHandler implements DomainEventHandler {
+
+    private final BoardDetailCache boardDetailCache;
+    private final UserBoardListCache userBoardListCache;
+    private final CommentListCache commentListCache;
+    private final BoardFavoriteIndex boardFavoriteIndex;
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events)
+            apply(event);
+    }
+
+    public void apply(DomainEvent event) {
+        if (event instanceof BoardPostedEvent posted) {
+            userBoardListCache.invalidate(posted.getWriterEmail());
+        } else if (event instanceof BoardPatchedEvent patched) {
+            boardDetailCache.invalidate(patched.getBoardNumber());
+            userBoardListCache.invalidate(patched.getWriterEmail());
+        } else if (event instanceof BoardDeletedEvent deleted) {
+            boardDetailCache.invalidate(deleted.getBoardNumber());
+            userBoardListCache.invalidate(deleted.getWriterEmail());
+            commentListCache.invalidate(deleted.getBoardNumber());
+            boardFavoriteIndex.invalidate(deleted.getBoardNumber());
+        } else if (event instanceof CommentPostedEvent commented) {
+            commentListCache.invalidate(commented.getBoardNumber());
+        } else if (event instanceof FavoriteToggledEvent toggled) {
+            if (toggled.isFavorite())
+                boardFavoriteIndex.add(toggled.getBoardNumber(), toggled.getUserEmail());
+            else
+                boardFavoriteIndex.remove(toggled.getBoardNumber(), toggled.getUserEmail());
+        } else if (event instanceof UserProfileChangedEvent changed) {
+            boardDetailCache.invalidateWriter(changed.getEmail());
+            userBoardListCache.invalidate(changed.getEmail());
+            boardFavoriteIndex.invalidateUser(changed.getEmail());
+        }
+    }
+
+}
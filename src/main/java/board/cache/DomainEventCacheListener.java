@@ -0,0 +1,23 @@
+package board.cache;
+
+import board.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 이 인스턴스의 캐시를 커밋 직후 요청 스레드에서 먼저 갱신 (작성 직후 같은 사용자가 다시 읽는 경우)
+// 기준은 outbox 전달(DomainEventCacheHandler)이며, 이 경로는 outbox 폴링 지연만 줄이는 선택 사항
+@Component
+@ConditionalOnProperty(name = "board.cache.local-fast-path", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DomainEventCacheListener {
+
+    private final DomainEventCacheHandler domainEventCacheHandler;
+
+    @TransactionalEventListener
+    public void onDomainEvent(DomainEvent event) {
+        domainEventCacheHandler.apply(event);
+    }
+
+}
@@ -0,0 +1,59 @@
+package board.cache;
+
+import board.repository.resultSet.GetBoardListResultSet;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+// 작성자별 게시물 목록 첫 페이지(기본 크기) 캐시
+// 작성자의 게시물 작성/수정/삭제, 닉네임/프로필 이미지 변경 시 무효화
+// 좋아요/댓글/조회수는 무효화하지 않으므로 짧은 TTL 만큼 늦게 반영될 수 있음
+// loader 는 잠금 밖 호출 스레드에서 실행 (CacheLoading 참고)
+@Component
+public class UserBoardListCache {
+
+    private final AsyncCache<String, Page> cache;
+
+    public UserBoardListCache(
+        MeterRegistry meterRegistry,
+        @Value("${board.cache.user-board-list.maximum-size:10000}") long maximumSize,
+        @Value("${board.cache.user-board-list.expire-after-write-seconds:30}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "userBoardList");
+    }
+
+    // loader 가 null 을 반환하면(존재하지 않는 사용자) 캐시하지 않음
+    public Page get(String writerEmail, Function<String, Page> loader) {
+        return CacheLoading.get(cache, writerEmail, loader);
+    }
+
+    public void invalidate(String writerEmail) {
+        if (writerEmail == null) return;
+        cache.synchronous().invalidate(writerEmail);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Page {
+        private List<GetBoardListResultSet> boardList;
+        private String nextCursor;
+        // 첫 페이지에서만 계산 (이어지는 페이지는 null)
+        private Integer totalCount;
+    }
+
+}
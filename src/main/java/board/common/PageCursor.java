@@ -0,0 +1,42 @@
+package board.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 목록 keyset 페이지네이션용 커서 (write_datetime + 번호), 클라이언트에는 불투명 토큰으로 전달
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private String writeDatetime;
+    private int number;
+
+    public static String encode(String writeDatetime, int number) {
+        String raw = writeDatetime + SEPARATOR + number;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank())
+            return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            if (index <= 0)
+                return null;
+
+            String writeDatetime = raw.substring(0, index);
+            int number = Integer.parseInt(raw.substring(index + 1));
+            return new PageCursor(writeDatetime, number);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
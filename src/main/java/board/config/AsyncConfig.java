@@ -0,0 +1,38 @@
+package board.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 이미지 파생본 생성용 (CPU 사용량이 커서 요청 스레드와 분리)
+    // CPU 작업이므로 spring.threads.virtual.enabled 와 관계없이 크기 2 의 플랫폼 스레드 풀로 동시 실행 수를 제한
+    // 대기열이 가득 차면 기록/집계 후 거절하고, 빠진 파생본은 조회 시 다시 생성 요청 (FileServiceImpl.getImage)
+    @Bean
+    public TaskExecutor imageTaskExecutor(MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("image.derivative.rejected").register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            System.err.println("이미지 파생본 생성 대기열 초과로 작업 거절: queue=" + threadPoolExecutor.getQueue().size());
+            throw new RejectedExecutionException("image derivative queue is full");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+}
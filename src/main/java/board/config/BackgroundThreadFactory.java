@@ -0,0 +1,25 @@
+package board.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 백그라운드 작업 스레드 생성 (outbox 전달, 검색 로그 적재, 기동 시 적재 등)
+// spring.threads.virtual.enabled=true 이면 요청/스케줄러 스레드와 같이 가상 스레드로 생성
+// 가상 스레드는 항상 daemon 이므로 플랫폼 스레드도 daemon 으로 맞춤
+@Component
+public class BackgroundThreadFactory {
+
+    private final boolean virtual;
+
+    public BackgroundThreadFactory(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    // 시작되지 않은 스레드 반환
+    public Thread newThread(String name, Runnable task) {
+        if (virtual)
+            return Thread.ofVirtual().name(name).unstarted(task);
+        return Thread.ofPlatform().name(name).daemon(true).unstarted(task);
+    }
+
+}
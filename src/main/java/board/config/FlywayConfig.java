@@ -0,0 +1,20 @@
+package board.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // 스키마 변경은 src/main/resources/db/migration 의 V{n}__*.sql 로만 적용
+    // 기존 스키마(user, board, image, comment, favorite, search_log, board_list_view)는 저장소 밖에서 만들어진 V1 로 보고,
+    // 이력 테이블이 없는 기존 DB 는 V1 로 baseline 한 뒤 V2 부터 적용
+    @Bean
+    public FlywayConfigurationCustomizer baselineFlywayConfigurationCustomizer() {
+        return configuration -> configuration
+            .baselineOnMigrate(true)
+            .baselineVersion("1");
+    }
+
+}
@@ -0,0 +1,39 @@
+package board.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // board/comment/image 번호를 id_generator 에서 한 번에 미리 할당받는 개수 (@TableGenerator allocationSize)
+    // id_generator 의 초기값은 V5 마이그레이션에서 기존 최대 번호 + 이 값 + 1 로 설정
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private final int batchSize;
+    private final boolean generateStatistics;
+
+    public JpaConfig(
+        @Value("${board.jpa.batch-size:50}") int batchSize,
+        @Value("${board.jpa.generate-statistics:false}") boolean generateStatistics
+    ) {
+        this.batchSize = batchSize;
+        this.generateStatistics = generateStatistics;
+    }
+
+    // IDENTITY 대신 테이블 기반 pooled 할당을 쓰므로 saveAll 이 JDBC batch 로 전송됨
+    // (MySQL 에서 multi-row INSERT 로 재작성하려면 JDBC URL 에 rewriteBatchedStatements=true 필요)
+    // generate-statistics 를 켜면 세션별 JDBC 문장/배치 수가 로그로 출력됨
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.generate_statistics", generateStatistics);
+        };
+    }
+
+}
@@ -25,18 +25,40 @@ public class BoardController {
         return boardService.getBoard(boardNumber);
     }
 
+    // 로그인하지 않은 요청은 email 이 "anonymousUser" 이며 favorite 은 항상 false
+    @GetMapping("/{boardNumber}/favorite-summary")
+    public ResponseEntity<? super GetFavoriteSummaryResponseDto> getFavoriteSummary(
+        @PathVariable("boardNumber") Integer boardNumber,
+        @AuthenticationPrincipal String email
+    ) {
+        return boardService.getFavoriteSummary(boardNumber, email);
+    }
+
     @GetMapping("/{boardNumber}/favorite-list")
     public ResponseEntity<? super GetFavoriteListResponseDto> getFavoriteList(
-        @PathVariable("boardNumber") Integer boardNumber
+        @PathVariable("boardNumber") Integer boardNumber,
+        @RequestParam(value="cursor", required=false) String cursor,
+        @RequestParam(value="size", required=false) Integer size
     ) {
-        return boardService.getFavoriteList(boardNumber);
+        return boardService.getFavoriteList(boardNumber, cursor, size);
     }
 
     @GetMapping("/{boardNumber}/comment-list")
     public ResponseEntity<? super GetCommentListResponseDto> getCommentList(
-        @PathVariable("boardNumber") Integer boardNumber
+        @PathVariable("boardNumber") Integer boardNumber,
+        @RequestParam(value="cursor", required=false) String cursor,
+        @RequestParam(value="size", required=false) Integer size
     ) {
-        return boardService.getCommentList(boardNumber);
+        return boardService.getCommentList(boardNumber, cursor, size);
+    }
+
+    @GetMapping("/{boardNumber}/comment-list/since")
+    public ResponseEntity<? super GetCommentListResponseDto> getCommentListSince(
+        @PathVariable("boardNumber") Integer boardNumber,
+        @RequestParam("cursor") String cursor,
+        @RequestParam(value="size", required=false) Integer size
+    ) {
+        return boardService.getCommentListSince(boardNumber, cursor, size);
     }
 
     @GetMapping("/{boardNumber}/increase-view-count")
@@ -47,8 +69,11 @@ public class BoardController {
     }
 
     @GetMapping("/latest-list")
-    public ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList() {
-        return boardService.getLatestBoardList();
+    public ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList(
+        @RequestParam(value="cursor", required=false) String cursor,
+        @RequestParam(value="size", required=false) Integer size
+    ) {
+        return boardService.getLatestBoardList(cursor, size);
     }
 
     @GetMapping("/top-3")
@@ -59,16 +84,20 @@ public class BoardController {
     @GetMapping(value={"/search-list/{searchWord}", "/search-list/{searchWord}/{preSearchWord}"})
     public ResponseEntity<? super GetSearchBoardListResponseDto> getSearchBoardList(
         @PathVariable("searchWord") String searchWord,
-        @PathVariable(value="preSearchWord", required=false) String preSearchWord
+        @PathVariable(value="preSearchWord", required=false) String preSearchWord,
+        @RequestParam(value="page", required=false) Integer page,
+        @RequestParam(value="size", required=false) Integer size
     ) {
-        return boardService.getSearchBoardList(searchWord, preSearchWord);
+        return boardService.getSearchBoardList(searchWord, preSearchWord, page, size);
     }
 
     @GetMapping("/user-board-list/{email}")
     public ResponseEntity<? super GetUserBoardListResponseDto> getUserBoardList(
-        @PathVariable("email") String email
+        @PathVariable("email") String email,
+        @RequestParam(value="cursor", required=false) String cursor,
+        @RequestParam(value="size", required=false) Integer size
     ) {
-        return boardService.getUserBoardList(email);
+        return boardService.getUserBoardList(email, cursor, size);
     }
 
     @PostMapping
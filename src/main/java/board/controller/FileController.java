@@ -1,26 +1,46 @@
 package board.controller;
 
+import board.file.ImageVariant;
+import board.file.StaticFileSender;
 import board.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 @RestController
 @RequestMapping("/api/v1/file")
 @RequiredArgsConstructor
 public class FileController {
 
     private final FileService fileService;
+    private final StaticFileSender staticFileSender;
 
     @PostMapping("/upload")
     public String upload(@RequestParam("file") MultipartFile file) {
         return fileService.upload(file);
     }
 
-    @GetMapping(value="{fileName}", produces = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
-    public Resource getImage(@PathVariable String fileName) {
-        return fileService.getImage(fileName);
+    @GetMapping("{fileName}")
+    public void getImage(
+        @PathVariable String fileName,
+        @RequestParam(value="size", required=false) String size,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        ImageVariant variant = ImageVariant.fromParam(size);
+        Path image = fileService.getImage(fileName, variant);
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 파생본 생성 전이라 원본으로 대체한 응답은 오래 캐시하지 않음
+        boolean immutable = variant == null || !image.getFileName().toString().equals(fileName);
+        staticFileSender.send(image, immutable, request, response);
     }
 }
@@ -0,0 +1,133 @@
+package board.counter;
+
+import board.event.DomainEventPublisher;
+import board.event.ViewRecordedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회수 write-behind 버퍼
+// 조회 요청은 게시물별 LongAdder 만 증가시키고, 주기적으로 누적분을 한 번에 DB 에 반영
+// flush 는 잠금 없이 맵을 새 맵으로 바꾸므로, 바꾸기 직전에 이전 맵을 잡은 조회가 늦게 더한 값은
+// 이전 맵을 한 주기 더 보관했다가 다음 flush 에서 이미 반영한 값과의 차이로 반영
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+
+    private final AtomicReference<Map<Integer, LongAdder>> counters = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    // 주기 flush 와 종료 시 drain 이 겹치지 않도록 함 (가상 스레드 고정을 피하려 synchronized 대신 사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 이하 flushLock 안에서만 접근
+    // 직전 flush 에서 바꾼 맵과 그때 읽은 값
+    private Map<Integer, LongAdder> previous = Map.of();
+    private Map<Integer, Long> previousSums = Map.of();
+
+    public void record(Integer boardNumber) {
+        add(boardNumber, 1);
+    }
+
+    @Scheduled(
+        initialDelayString = "${board.view-count.flush-interval-ms:5000}",
+        fixedDelayString = "${board.view-count.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushSwapped();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void flushSwapped() {
+        Map<Integer, LongAdder> swapped = counters.getAndSet(new ConcurrentHashMap<>());
+
+        // 게시물 번호 순으로 갱신하여 다른 갱신과 행 잠금 순서를 맞춤
+        Map<Integer, Long> pending = new TreeMap<>();
+        Map<Integer, Long> swappedSums = new HashMap<>();
+        for (Map.Entry<Integer, LongAdder> entry : swapped.entrySet()) {
+            long sum = entry.getValue().sum();
+            swappedSums.put(entry.getKey(), sum);
+            if (sum > 0) pending.merge(entry.getKey(), sum, Long::sum);
+        }
+        for (Map.Entry<Integer, LongAdder> entry : previous.entrySet()) {
+            long late = entry.getValue().sum() - previousSums.getOrDefault(entry.getKey(), 0L);
+            if (late > 0) pending.merge(entry.getKey(), late, Long::sum);
+        }
+        previous = swapped;
+        previousSums = swappedSums;
+
+        if (pending.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Map.Entry<Integer, Long>> entries = new ArrayList<>(pending.entrySet());
+                for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+                    List<Map.Entry<Integer, Long>> chunk = entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+                    increaseViewCounts("board", chunk);
+                    increaseViewCounts("board_list", chunk);
+                }
+                // 게시물별이 아니라 flush 당 한 건만 outbox 에 기록
+                domainEventPublisher.publish(new ViewRecordedEvent(new HashMap<>(pending)));
+            });
+        } catch (Exception e) {
+            e.printStackTrace();
+            // 반영에 실패한 누적분은 다음 주기에 다시 시도
+            for (Map.Entry<Integer, Long> entry : pending.entrySet())
+                add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void add(Integer boardNumber, long delta) {
+        Map<Integer, LongAdder> current = counters.get();
+        LongAdder counter = current.get(boardNumber);
+        if (counter == null) counter = current.computeIfAbsent(boardNumber, key -> new LongAdder());
+        counter.add(delta);
+    }
+
+    // 게시물 수만큼 왕복하지 않도록 묶음마다 UPDATE 한 번
+    // UPDATE {table} SET view_count = view_count + CASE board_number WHEN ? THEN ? ... END WHERE board_number IN (?, ...)
+    private void increaseViewCounts(String table, List<Map.Entry<Integer, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET view_count = view_count + CASE board_number");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (Map.Entry<Integer, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE board_number IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(chunk.get(i).getKey());
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+}
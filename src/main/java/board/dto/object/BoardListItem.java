@@ -1,6 +1,9 @@
 package board.dto.object;
 
-import board.entity.BoardListViewEntity;
+import board.file.ImageUrlResolver;
+import board.file.ImageVariant;
+import board.repository.resultSet.GetBoardListResultSet;
+import board.search.SearchTextNormalizer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +16,8 @@ import java.util.List;
 @AllArgsConstructor
 public class BoardListItem {
 
+    private static final int CONTENT_PREVIEW_LENGTH = 200;
+
     private int boardNumber;
     private String title;
     private String content;
@@ -24,23 +29,26 @@ public class BoardListItem {
     private String writerNickname;
     private String writerProfileImage;
 
-    public BoardListItem(BoardListViewEntity boardListViewEntity) {
-        boardNumber = boardListViewEntity.getBoardNumber();
-        title = boardListViewEntity.getTitle();
-        content = boardListViewEntity.getContent();
-        boardTitleImage = boardListViewEntity.getTitleImage();
-        favoriteCount = boardListViewEntity.getFavoriteCount();
-        commentCount = boardListViewEntity.getCommentCount();
-        viewCount = boardListViewEntity.getViewCount();
-        writeDatetime = boardListViewEntity.getWriteDatetime();
-        writerNickname = boardListViewEntity.getWriterNickname();
-        writerProfileImage = boardListViewEntity.getWriterProfileImage();
+    public BoardListItem(GetBoardListResultSet resultSet, ImageUrlResolver imageUrlResolver) {
+        boardNumber = resultSet.getBoardNumber();
+        title = resultSet.getTitle();
+        // 카드에는 미리보기만 표시하므로 태그/URL 을 제거하고 길이 제한
+        content = SearchTextNormalizer.preview(resultSet.getContent(), CONTENT_PREVIEW_LENGTH);
+        // 목록 카드는 원본 대신 card 크기 파생본 사용
+        boardTitleImage = imageUrlResolver.url(resultSet.getTitleImage(), ImageVariant.CARD);
+        favoriteCount = resultSet.getFavoriteCount();
+        commentCount = resultSet.getCommentCount();
+        viewCount = resultSet.getViewCount();
+        writeDatetime = resultSet.getWriteDatetime();
+        writerNickname = resultSet.getWriterNickname();
+        // 작성자 아바타는 thumb 크기 파생본 사용
+        writerProfileImage = imageUrlResolver.url(resultSet.getWriterProfileImage(), ImageVariant.THUMBNAIL);
     }
 
-    public static List<BoardListItem> getList(List<BoardListViewEntity> boardListViewEntities) {
+    public static List<BoardListItem> getList(List<? extends GetBoardListResultSet> resultSets, ImageUrlResolver imageUrlResolver) {
         List<BoardListItem> list = new ArrayList<>();
-        for (BoardListViewEntity boardListViewEntity : boardListViewEntities) {
-            BoardListItem item = new BoardListItem(boardListViewEntity);
+        for (GetBoardListResultSet resultSet : resultSets) {
+            BoardListItem item = new BoardListItem(resultSet, imageUrlResolver);
             list.add(item);
         }
         return list;
@@ -1,5 +1,7 @@
 package board.dto.object;
 
+import board.file.ImageUrlResolver;
+import board.file.ImageVariant;
 import board.repository.resultSet.GetCommentListResultSet;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,22 +14,24 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentListItem {
+    private int commentNumber;
     private String nickname;
     private String ProfileImage;
     private String writeDatetime;
     private String content;
 
-    public CommentListItem(GetCommentListResultSet resultSet) {
+    public CommentListItem(GetCommentListResultSet resultSet, ImageUrlResolver imageUrlResolver) {
+        commentNumber = resultSet.getCommentNumber();
         nickname = resultSet.getNickname();
-        ProfileImage = resultSet.getProfileImage();
+        ProfileImage = imageUrlResolver.url(resultSet.getProfileImage(), ImageVariant.THUMBNAIL);
         writeDatetime = resultSet.getWriteDatetime();
         content = resultSet.getContent();
     }
 
-    public static List<CommentListItem> copyList(List<GetCommentListResultSet> resultSets) {
+    public static List<CommentListItem> copyList(List<GetCommentListResultSet> resultSets, ImageUrlResolver imageUrlResolver) {
         List<CommentListItem> list = new ArrayList<>();
         for (GetCommentListResultSet resultSet : resultSets) {
-            CommentListItem item = new CommentListItem(resultSet);
+            CommentListItem item = new CommentListItem(resultSet, imageUrlResolver);
             list.add(item);
         }
         return list;
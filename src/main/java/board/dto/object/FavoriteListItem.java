@@ -1,5 +1,7 @@
 package board.dto.object;
 
+import board.file.ImageUrlResolver;
+import board.file.ImageVariant;
 import board.repository.resultSet.GetFavoriteListResultSet;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,16 +18,16 @@ public class FavoriteListItem {
     private String nickname;
     private String profileImage;
 
-    public FavoriteListItem(GetFavoriteListResultSet resultSet) {
+    public FavoriteListItem(GetFavoriteListResultSet resultSet, ImageUrlResolver imageUrlResolver) {
         email = resultSet.getEmail();
         nickname = resultSet.getNickname();
-        profileImage = resultSet.getProfileImage();
+        profileImage = imageUrlResolver.url(resultSet.getProfileImage(), ImageVariant.THUMBNAIL);
     }
 
-    public static List<FavoriteListItem> copyList(List<GetFavoriteListResultSet> resultSetList) {
+    public static List<FavoriteListItem> copyList(List<GetFavoriteListResultSet> resultSetList, ImageUrlResolver imageUrlResolver) {
         List<FavoriteListItem> list = new ArrayList<>();
         for (GetFavoriteListResultSet resultSet : resultSetList) {
-            FavoriteListItem item = new FavoriteListItem(resultSet);
+            FavoriteListItem item = new FavoriteListItem(resultSet, imageUrlResolver);
             list.add(item);
         }
         return list;
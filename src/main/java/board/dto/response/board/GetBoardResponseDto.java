@@ -47,6 +47,10 @@ public class GetBoardResponseDto extends ResponseDto {
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
+    public static ResponseEntity<GetBoardResponseDto> success(GetBoardResponseDto result) {
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     public static ResponseEntity<ResponseDto> notExistBoard() {
         ResponseDto result = new ResponseDto(ResponseCode.NOT_EXISTED_BOARD, ResponseMessage.NOT_EXISTED_BOARD);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
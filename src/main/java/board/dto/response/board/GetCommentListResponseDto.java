@@ -4,6 +4,7 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.CommentListItem;
 import board.dto.response.ResponseDto;
+import board.file.ImageUrlResolver;
 import board.repository.resultSet.GetCommentListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -15,14 +16,23 @@ import java.util.List;
 public class GetCommentListResponseDto extends ResponseDto {
 
     private List<CommentListItem> commentList;
-
-    private GetCommentListResponseDto(List<GetCommentListResultSet> resultSets) {
+    // 더 오래된 댓글 페이지 조회용
+    private String nextCursor;
+    // 새 댓글 조회(since)용
+    private String latestCursor;
+    // 게시물의 전체 댓글 수 (첫 페이지와 새 댓글 조회에서만, 더 오래된 페이지는 null)
+    private Integer totalCount;
+
+    private GetCommentListResponseDto(List<GetCommentListResultSet> resultSets, String nextCursor, String latestCursor, Integer totalCount, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        commentList = CommentListItem.copyList(resultSets);
+        commentList = CommentListItem.copyList(resultSets, imageUrlResolver);
+        this.nextCursor = nextCursor;
+        this.latestCursor = latestCursor;
+        this.totalCount = totalCount;
     }
 
-    public static ResponseEntity<GetCommentListResponseDto> success(List<GetCommentListResultSet> resultSets) {
-        GetCommentListResponseDto result = new GetCommentListResponseDto(resultSets);
+    public static ResponseEntity<GetCommentListResponseDto> success(List<GetCommentListResultSet> resultSets, String nextCursor, String latestCursor, Integer totalCount, ImageUrlResolver imageUrlResolver) {
+        GetCommentListResponseDto result = new GetCommentListResponseDto(resultSets, nextCursor, latestCursor, totalCount, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
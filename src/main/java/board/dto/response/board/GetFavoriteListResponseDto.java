@@ -4,6 +4,7 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.FavoriteListItem;
 import board.dto.response.ResponseDto;
+import board.file.ImageUrlResolver;
 import board.repository.resultSet.GetFavoriteListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -15,14 +16,16 @@ import java.util.List;
 public class GetFavoriteListResponseDto extends ResponseDto {
 
     private List<FavoriteListItem> favoriteList;
+    private String nextCursor;
 
-    private GetFavoriteListResponseDto(List<GetFavoriteListResultSet> resultSets) {
+    private GetFavoriteListResponseDto(List<GetFavoriteListResultSet> resultSets, String nextCursor, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        favoriteList = FavoriteListItem.copyList(resultSets);
+        favoriteList = FavoriteListItem.copyList(resultSets, imageUrlResolver);
+        this.nextCursor = nextCursor;
     }
 
-    public static ResponseEntity<GetFavoriteListResponseDto> success(List<GetFavoriteListResultSet> resultSets) {
-        GetFavoriteListResponseDto result = new GetFavoriteListResponseDto(resultSets);
+    public static ResponseEntity<GetFavoriteListResponseDto> success(List<GetFavoriteListResultSet> resultSets, String nextCursor, ImageUrlResolver imageUrlResolver) {
+        GetFavoriteListResponseDto result = new GetFavoriteListResponseDto(resultSets, nextCursor, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
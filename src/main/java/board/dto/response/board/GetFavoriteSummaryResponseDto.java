@@ -0,0 +1,38 @@
+package board.dto.response.board;
+
+import board.common.ResponseCode;
+import board.common.ResponseMessage;
+import board.dto.object.FavoriteListItem;
+import board.dto.response.ResponseDto;
+import board.favorite.BoardFavoriteIndex;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetFavoriteSummaryResponseDto extends ResponseDto {
+
+    private int favoriteCount;
+    private boolean favorite;
+    private List<FavoriteListItem> previewList;
+
+    private GetFavoriteSummaryResponseDto(BoardFavoriteIndex.Summary summary) {
+        super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
+        this.favoriteCount = summary.getFavoriteCount();
+        this.favorite = summary.isFavorite();
+        this.previewList = summary.getPreviewList();
+    }
+
+    public static ResponseEntity<GetFavoriteSummaryResponseDto> success(BoardFavoriteIndex.Summary summary) {
+        GetFavoriteSummaryResponseDto result = new GetFavoriteSummaryResponseDto(summary);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistBoard() {
+        ResponseDto result = new ResponseDto(ResponseCode.NOT_EXISTED_BOARD, ResponseMessage.NOT_EXISTED_BOARD);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+    }
+
+}
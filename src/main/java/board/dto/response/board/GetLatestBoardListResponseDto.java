@@ -4,7 +4,8 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.BoardListItem;
 import board.dto.response.ResponseDto;
-import board.entity.BoardListViewEntity;
+import board.file.ImageUrlResolver;
+import board.repository.resultSet.GetBoardListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,14 +16,16 @@ import java.util.List;
 public class GetLatestBoardListResponseDto extends ResponseDto {
 
     private List<BoardListItem> latestList;
+    private String nextCursor;
 
-    private GetLatestBoardListResponseDto(List<BoardListViewEntity> boardEntities) {
+    private GetLatestBoardListResponseDto(List<? extends GetBoardListResultSet> boardEntities, String nextCursor, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        latestList = BoardListItem.getList(boardEntities);
+        latestList = BoardListItem.getList(boardEntities, imageUrlResolver);
+        this.nextCursor = nextCursor;
     }
 
-    public static ResponseEntity<GetLatestBoardListResponseDto> success(List<BoardListViewEntity> boardEntities) {
-        GetLatestBoardListResponseDto result = new GetLatestBoardListResponseDto(boardEntities);
+    public static ResponseEntity<GetLatestBoardListResponseDto> success(List<? extends GetBoardListResultSet> boardEntities, String nextCursor, ImageUrlResolver imageUrlResolver) {
+        GetLatestBoardListResponseDto result = new GetLatestBoardListResponseDto(boardEntities, nextCursor, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 }
@@ -4,7 +4,8 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.BoardListItem;
 import board.dto.response.ResponseDto;
-import board.entity.BoardListViewEntity;
+import board.file.ImageUrlResolver;
+import board.repository.resultSet.GetBoardListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,14 +16,19 @@ import java.util.List;
 public class GetSearchBoardListResponseDto extends ResponseDto {
 
     private List<BoardListItem> searchList;
+    private Integer nextPage;
+    // 전체 검색 결과 수 (계산하지 않은 페이지에서는 null)
+    private Integer totalCount;
 
-    private GetSearchBoardListResponseDto(List<BoardListViewEntity> boardListViewEntities) {
+    private GetSearchBoardListResponseDto(List<? extends GetBoardListResultSet> boardListViewEntities, Integer nextPage, Integer totalCount, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        searchList = BoardListItem.getList(boardListViewEntities);
+        searchList = BoardListItem.getList(boardListViewEntities, imageUrlResolver);
+        this.nextPage = nextPage;
+        this.totalCount = totalCount;
     }
 
-    public static ResponseEntity<GetSearchBoardListResponseDto> success(List<BoardListViewEntity> boardListViewEntities) {
-        GetSearchBoardListResponseDto result = new GetSearchBoardListResponseDto(boardListViewEntities);
+    public static ResponseEntity<GetSearchBoardListResponseDto> success(List<? extends GetBoardListResultSet> boardListViewEntities, Integer nextPage, Integer totalCount, ImageUrlResolver imageUrlResolver) {
+        GetSearchBoardListResponseDto result = new GetSearchBoardListResponseDto(boardListViewEntities, nextPage, totalCount, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
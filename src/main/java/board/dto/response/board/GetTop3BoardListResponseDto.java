@@ -4,7 +4,8 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.BoardListItem;
 import board.dto.response.ResponseDto;
-import board.entity.BoardListViewEntity;
+import board.file.ImageUrlResolver;
+import board.repository.resultSet.GetBoardListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,13 +17,13 @@ public class GetTop3BoardListResponseDto extends ResponseDto {
 
     private List<BoardListItem> top3List;
 
-    private GetTop3BoardListResponseDto(List<BoardListViewEntity> boardListViewEntities) {
+    private GetTop3BoardListResponseDto(List<? extends GetBoardListResultSet> boardListViewEntities, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        top3List = BoardListItem.getList(boardListViewEntities);
+        top3List = BoardListItem.getList(boardListViewEntities, imageUrlResolver);
     }
 
-    public static ResponseEntity<GetTop3BoardListResponseDto> success(List<BoardListViewEntity> boardListViewEntities) {
-        GetTop3BoardListResponseDto result = new GetTop3BoardListResponseDto(boardListViewEntities);
+    public static ResponseEntity<GetTop3BoardListResponseDto> success(List<? extends GetBoardListResultSet> boardListViewEntities, ImageUrlResolver imageUrlResolver) {
+        GetTop3BoardListResponseDto result = new GetTop3BoardListResponseDto(boardListViewEntities, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 }
@@ -4,7 +4,8 @@ import board.common.ResponseCode;
 import board.common.ResponseMessage;
 import board.dto.object.BoardListItem;
 import board.dto.response.ResponseDto;
-import board.entity.BoardListViewEntity;
+import board.file.ImageUrlResolver;
+import board.repository.resultSet.GetBoardListResultSet;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,14 +16,18 @@ import java.util.List;
 public class GetUserBoardListResponseDto extends ResponseDto {
 
     private List<BoardListItem> userBoardList;
+    private String nextCursor;
+    private Integer totalCount;
 
-    private GetUserBoardListResponseDto(List<BoardListViewEntity> boardListViewEntities) {
+    private GetUserBoardListResponseDto(List<? extends GetBoardListResultSet> boardListViewEntities, String nextCursor, Integer totalCount, ImageUrlResolver imageUrlResolver) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
-        userBoardList = BoardListItem.getList(boardListViewEntities);
+        userBoardList = BoardListItem.getList(boardListViewEntities, imageUrlResolver);
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
     }
 
-    public static ResponseEntity<GetUserBoardListResponseDto> success(List<BoardListViewEntity> boardListViewEntities) {
-        GetUserBoardListResponseDto result = new GetUserBoardListResponseDto(boardListViewEntities);
+    public static ResponseEntity<GetUserBoardListResponseDto> success(List<? extends GetBoardListResultSet> boardListViewEntities, String nextCursor, Integer totalCount, ImageUrlResolver imageUrlResolver) {
+        GetUserBoardListResponseDto result = new GetUserBoardListResponseDto(boardListViewEntities, nextCursor, totalCount, imageUrlResolver);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
@@ -1,11 +1,13 @@
 package board.entity;
 
-import board.dto.request.board.PatchBoardRequestDto;
+import board.config.JpaConfig;
 import board.dto.request.board.PostBoardRequestDto;
+import board.search.SearchTextNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.text.SimpleDateFormat;
 import java.time.Instant;
@@ -14,12 +16,21 @@ import java.util.Date;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 @Entity(name = "board")
 @Table(name = "board")
 public class BoardEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_id")
+    @TableGenerator(
+        name = "board_id",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "board",
+        allocationSize = JpaConfig.ID_ALLOCATION_SIZE
+    )
     private int boardNumber;
 
     private String title;
@@ -30,6 +41,9 @@ public class BoardEntity {
     private int viewCount;
     private String writerEmail;
 
+    // 제목/본문에서 URL/태그를 제거하고 소문자로 정규화한 검색용 텍스트 (작성/수정 시 갱신)
+    private String searchText;
+
     public BoardEntity(PostBoardRequestDto dto, String email) {
 
         Date now = Date.from(Instant.now());
@@ -43,31 +57,7 @@ public class BoardEntity {
         this.commentCount = 0;
         this.viewCount = 0;
         this.writerEmail = email;
-    }
-
-    public void increaseViewCount() {
-        viewCount++;
-    }
-
-    public void increaseFavoriteCount() {
-        favoriteCount++;
-    }
-
-    public void decreaseFavoriteCount() {
-        favoriteCount--;
-    }
-
-    public void increaseCommentCount() {
-        commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        commentCount--;
-    }
-
-    public void patchBoard(PatchBoardRequestDto dto) {
-        title = dto.getTitle();
-        content = dto.getContent();
+        this.searchText = SearchTextNormalizer.searchText(dto.getTitle(), dto.getContent());
     }
 
 }
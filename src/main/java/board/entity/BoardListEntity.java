@@ -10,9 +10,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Entity(name = "board_list_view")
-@Table(name = "board_list_view")
-public class BoardListViewEntity {
+@Entity(name = "board_list")
+@Table(name = "board_list")
+public class BoardListEntity {
 
     @Id
     private int boardNumber;
@@ -0,0 +1,21 @@
+package board.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 삭제 요청되었으나 댓글/좋아요/이미지 정리가 끝나지 않은 게시물 (지연 삭제 모드)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "board_purge")
+@Table(name = "board_purge")
+public class BoardPurgeEntity {
+
+    @Id
+    private int boardNumber;
+
+    private String requestDatetime;
+
+}
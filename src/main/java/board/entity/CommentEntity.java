@@ -1,5 +1,6 @@
 package board.entity;
 
+import board.config.JpaConfig;
 import board.dto.request.board.PostCommentRequestDto;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -18,7 +19,15 @@ import java.util.Date;
 public class CommentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(
+        name = "comment_id",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "comment",
+        allocationSize = JpaConfig.ID_ALLOCATION_SIZE
+    )
     private int commentNumber;
 
     private String content;
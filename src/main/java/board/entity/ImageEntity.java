@@ -1,5 +1,6 @@
 package board.entity;
 
+import board.config.JpaConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,7 +14,15 @@ import lombok.NoArgsConstructor;
 public class ImageEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "image_id")
+    @TableGenerator(
+        name = "image_id",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "image",
+        allocationSize = JpaConfig.ID_ALLOCATION_SIZE
+    )
     private int sequence;
 
     private int boardNumber;
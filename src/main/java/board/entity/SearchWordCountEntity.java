@@ -0,0 +1,30 @@
+package board.entity;
+
+import board.entity.primaryKey.SearchWordCountPk;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 검색어 집계 요약 테이블 (1시간 단위)
+// relation_word 가 빈 문자열이면 인기 검색어 집계, 아니면 연관 검색어 집계
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "search_word_count")
+@Table(name = "search_word_count")
+@IdClass(SearchWordCountPk.class)
+public class SearchWordCountEntity {
+
+    @Id
+    private String bucketHour;
+
+    @Id
+    private String searchWord;
+
+    @Id
+    private String relationWord;
+
+    private long searchCount;
+
+}
@@ -0,0 +1,23 @@
+package board.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 업로드 파일(내용 해시 기반 파일명)의 참조 수
+// image.image 와 user.profile_image 가 가리키는 횟수이며, 0 인 상태로 유예 시간이 지나면 정리 대상
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "stored_file")
+@Table(name = "stored_file")
+public class StoredFileEntity {
+
+    @Id
+    private String fileName;
+
+    private int referenceCount;
+    private String updateDatetime;
+
+}
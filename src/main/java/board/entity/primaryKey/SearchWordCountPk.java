@@ -0,0 +1,24 @@
+package board.entity.primaryKey;
+
+import jakarta.persistence.Column;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SearchWordCountPk implements Serializable {
+
+    @Column(name="bucket_hour")
+    private String bucketHour;
+
+    @Column(name="search_word")
+    private String searchWord;
+
+    @Column(name="relation_word")
+    private String relationWord;
+
+}
@@ -0,0 +1,13 @@
+package board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardPatchedEvent implements DomainEvent {
+    private int boardNumber;
+    private String writerEmail;
+}
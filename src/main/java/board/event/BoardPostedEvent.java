@@ -0,0 +1,14 @@
+package board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardPostedEvent implements DomainEvent {
+    private int boardNumber;
+    private String writerEmail;
+    private String writeDatetime;
+}
@@ -0,0 +1,7 @@
+package board.event;
+
+// 게시물/사용자 도메인 이벤트
+// DomainEventPublisher 가 쓰기 트랜잭션 안에서 outbox 에 기록하고,
+// 커밋 후 같은 인스턴스의 캐시(@TransactionalEventListener)와 outbox 구독자(DomainEventHandler)에 전달
+public interface DomainEvent {
+}
@@ -0,0 +1,13 @@
+package board.event;
+
+import java.util.List;
+
+// outbox 구독자 (메모리 색인/랭킹 등 요청 경로 밖에서 갱신하는 읽기 모델)
+// 인스턴스마다 발행 순서(event_id 순)대로 묶음 단위로 전달되며, 처리 중 예외가 나면 같은 묶음이 다시 전달됨(at-least-once)
+// 같은 묶음이 board.outbox.max-attempts 번 실패하면 한 건씩 다시 전달되고, 그래도 실패하는 이벤트는 dead letter 로 옮겨져 넘어감
+// 기동 이전의 이벤트는 전달되지 않으므로 구독자는 기동 시 DB 에서 상태를 적재해야 함
+public interface DomainEventHandler {
+
+    void handle(List<DomainEvent> events);
+
+}
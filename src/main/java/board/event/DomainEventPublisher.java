@@ -0,0 +1,56 @@
+package board.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 도메인 이벤트 발행 (쓰기 트랜잭션 안에서 호출)
+// 1) 같은 트랜잭션으로 domain_event_outbox 에 기록 -> 롤백되면 이벤트도 없음
+// 2) 커밋 후 같은 인스턴스의 @TransactionalEventListener 로 즉시 전달 (캐시 무효화 등 요청 직후 다시 읽히는 상태)
+// 3) 커밋 후 OutboxDispatcher 를 깨워 outbox 구독자에 비동기 전달
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            throw new IllegalStateException("domain events must be published inside a transaction");
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        jdbcTemplate.update(
+            "INSERT INTO domain_event_outbox (event_type, payload, create_datetime) VALUES (?, ?, ?)",
+            event.getClass().getSimpleName(), payload, LocalDateTime.now().format(DATETIME_FORMATTER)
+        );
+
+        applicationEventPublisher.publishEvent(event);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+
+}
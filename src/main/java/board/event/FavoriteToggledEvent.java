@@ -0,0 +1,15 @@
+package board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteToggledEvent implements DomainEvent {
+    private int boardNumber;
+    private String userEmail;
+    // true: 좋아요 추가, false: 취소
+    private boolean favorite;
+}
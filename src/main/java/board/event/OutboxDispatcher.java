@@ -0,0 +1,315 @@
+package board.event;
+
+import board.config.BackgroundThreadFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// domain_event_outbox 를 event_id 순으로 읽어 DomainEventHandler 들에 묶음 전달
+// 구독자가 메모리 상태이므로 인스턴스마다 자기 커서로 전체 이벤트를 소비하며, 처리된 행은 보관 기간 후 삭제
+// AUTO_INCREMENT 번호는 커밋 순서와 다를 수 있어, 비어 있는 번호는 gap-timeout 동안 기다렸다가(늦은 커밋) 넘김(롤백)
+// 같은 묶음이 max-attempts 번 실패하면 이벤트를 하나씩 전달하고, 그래도 실패하거나 읽을 수 없는 이벤트는
+// domain_event_dead_letter 에 옮기고 넘김 (테이블은 V8 마이그레이션에서 생성)
+@Component
+public class OutboxDispatcher {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int CLEANUP_CHUNK_SIZE = 1000;
+    private static final int DEAD_LETTER_ERROR_LENGTH = 1000;
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.of(
+        BoardPostedEvent.class,
+        BoardPatchedEvent.class,
+        BoardDeletedEvent.class,
+        CommentPostedEvent.class,
+        FavoriteToggledEvent.class,
+        ViewRecordedEvent.class,
+        UserProfileChangedEvent.class
+    ).collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<DomainEventHandler> handlerProvider;
+    private final BackgroundThreadFactory backgroundThreadFactory;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long gapTimeoutMs;
+    private final long retentionHours;
+    private final int maxAttempts;
+
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Counter deadLetteredCounter;
+
+    private final Semaphore wakeUp = new Semaphore(0);
+    private volatile boolean running = false;
+    private Thread worker;
+    private List<DomainEventHandler> handlers;
+
+    // 이하 dispatcher 스레드에서만 접근
+    // cursor 이하 번호는 모두 전달(또는 넘김) 완료
+    private long cursor;
+    // cursor 이후에 먼저 전달된 번호
+    private final TreeSet<Long> deliveredAhead = new TreeSet<>();
+    // 비어 있는 번호 -> 처음 발견한 시각
+    private final Map<Long, Long> gapFirstSeen = new HashMap<>();
+    // 연속으로 실패한 묶음의 첫 번호와 시도 횟수
+    private long failingEventId = -1;
+    private int failedAttempts = 0;
+
+    public OutboxDispatcher(
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        ObjectProvider<DomainEventHandler> handlerProvider,
+        BackgroundThreadFactory backgroundThreadFactory,
+        MeterRegistry meterRegistry,
+        @Value("${board.outbox.batch-size:200}") int batchSize,
+        @Value("${board.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+        @Value("${board.outbox.gap-timeout-ms:60000}") long gapTimeoutMs,
+        @Value("${board.outbox.retention-hours:24}") long retentionHours,
+        @Value("${board.outbox.max-attempts:5}") int maxAttempts
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.handlerProvider = handlerProvider;
+        this.backgroundThreadFactory = backgroundThreadFactory;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionHours = retentionHours;
+        this.maxAttempts = maxAttempts;
+
+        this.deliveredCounter = Counter.builder("outbox.events.delivered").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed").register(meterRegistry);
+        this.skippedCounter = Counter.builder("outbox.events.skipped").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("outbox.events.dead_lettered").register(meterRegistry);
+    }
+
+    // 구독자들의 기동 시 적재보다 먼저 커서를 잡아, 적재 이후의 변경이 빠지지 않도록 함 (중복은 허용)
+    @PostConstruct
+    public void start() {
+        cursor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(event_id), 0) FROM domain_event_outbox", Long.class);
+
+        running = true;
+        worker = backgroundThreadFactory.newThread("outbox-dispatcher", this::run);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 이벤트를 기록한 트랜잭션의 커밋 직후 호출
+    public void wakeUp() {
+        wakeUp.release();
+    }
+
+    @Scheduled(cron = "${board.outbox.cleanup-cron:0 20 * * * *}")
+    public void cleanup() {
+        String cutoff = LocalDateTime.now().minusHours(retentionHours).format(DATETIME_FORMATTER);
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(
+                    "DELETE FROM domain_event_outbox WHERE create_datetime < ? LIMIT " + CLEANUP_CHUNK_SIZE, cutoff
+                );
+            } while (deleted == CLEANUP_CHUNK_SIZE);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void run() {
+        handlers = handlerProvider.orderedStream().toList();
+
+        while (running) {
+            try {
+                wakeUp.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+
+                // 밀린 이벤트가 있으면 묶음 단위로 이어서 전달
+                int dispatched;
+                do {
+                    dispatched = dispatch();
+                } while (running && dispatched > 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 같은 묶음을 다음 주기에 다시 전달 (max-attempts 이후에는 하나씩 전달)
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // 새로 전달한 이벤트 수 반환
+    private int dispatch() {
+        // 먼저 전달된 번호가 섞여 있어도 새 이벤트를 batchSize 만큼 읽을 수 있도록 여유를 둠
+        List<OutboxRow> rows = jdbcTemplate.query(
+            "SELECT event_id, event_type, payload FROM domain_event_outbox " +
+            "WHERE event_id > ? ORDER BY event_id ASC LIMIT ?",
+            (resultSet, rowNum) -> new OutboxRow(
+                resultSet.getLong("event_id"), resultSet.getString("event_type"), resultSet.getString("payload")
+            ),
+            cursor, batchSize + deliveredAhead.size()
+        );
+
+        List<Long> eventIds = new ArrayList<>();
+        List<OutboxRow> eventRows = new ArrayList<>();
+        List<DomainEvent> events = new ArrayList<>();
+        List<OutboxRow> unreadableRows = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            if (eventIds.size() == batchSize) break;
+            if (deliveredAhead.contains(row.eventId)) continue;
+
+            eventIds.add(row.eventId);
+            Class<? extends DomainEvent> type = EVENT_TYPES.get(row.eventType);
+            // 알 수 없는 종류는 넘김
+            if (type == null) continue;
+
+            DomainEvent event = deserialize(row, type);
+            if (event == null) {
+                unreadableRows.add(row);
+                continue;
+            }
+            eventRows.add(row);
+            events.add(event);
+        }
+
+        if (!events.isEmpty()) {
+            if (failingEventId == eventIds.get(0) && failedAttempts >= maxAttempts) {
+                dispatchOneByOne(eventRows, events);
+            } else {
+                try {
+                    deliver(events);
+                } catch (RuntimeException e) {
+                    if (failingEventId != eventIds.get(0)) {
+                        failingEventId = eventIds.get(0);
+                        failedAttempts = 0;
+                    }
+                    failedAttempts++;
+                    throw e;
+                }
+            }
+        }
+        failingEventId = -1;
+        failedAttempts = 0;
+
+        for (OutboxRow row : unreadableRows)
+            deadLetter(row, "unreadable payload");
+
+        deliveredAhead.addAll(eventIds);
+        advanceCursor();
+        return eventIds.size();
+    }
+
+    private void deliver(List<DomainEvent> events) {
+        try {
+            for (DomainEventHandler handler : handlers)
+                handler.handle(events);
+        } catch (RuntimeException e) {
+            failedCounter.increment(events.size());
+            throw e;
+        }
+        deliveredCounter.increment(events.size());
+    }
+
+    // 반복해서 실패한 묶음에서 실패하는 이벤트만 골라 dead letter 로 옮기고 나머지는 전달
+    private void dispatchOneByOne(List<OutboxRow> eventRows, List<DomainEvent> events) {
+        for (int index = 0; index < events.size(); index++) {
+            try {
+                deliver(List.of(events.get(index)));
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                deadLetter(eventRows.get(index), String.valueOf(e));
+            }
+        }
+    }
+
+    // 모든 인스턴스가 같은 이벤트를 소비하므로 event_id 당 한 행만 남김
+    private void deadLetter(OutboxRow row, String errorMessage) {
+        if (errorMessage.length() > DEAD_LETTER_ERROR_LENGTH)
+            errorMessage = errorMessage.substring(0, DEAD_LETTER_ERROR_LENGTH);
+
+        jdbcTemplate.update(
+            "INSERT INTO domain_event_dead_letter (event_id, event_type, payload, error_message, create_datetime) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE error_message = VALUES(error_message), create_datetime = VALUES(create_datetime)",
+            row.eventId, row.eventType, row.payload, errorMessage, LocalDateTime.now().format(DATETIME_FORMATTER)
+        );
+        deadLetteredCounter.increment();
+    }
+
+    private void advanceCursor() {
+        if (deliveredAhead.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        for (long eventId = cursor + 1; eventId < deliveredAhead.last(); eventId++) {
+            if (!deliveredAhead.contains(eventId)) gapFirstSeen.putIfAbsent(eventId, now);
+        }
+
+        while (!deliveredAhead.isEmpty()) {
+            long next = cursor + 1;
+            if (deliveredAhead.remove(next)) {
+                cursor = next;
+                continue;
+            }
+
+            // 아직 커밋되지 않았을 수 있으므로 gap-timeout 까지 대기, 이후에는 롤백된 번호로 보고 넘김
+            Long firstSeen = gapFirstSeen.get(next);
+            if (firstSeen == null || now - firstSeen < gapTimeoutMs) break;
+
+            gapFirstSeen.remove(next);
+            cursor = next;
+            skippedCounter.increment();
+        }
+        gapFirstSeen.keySet().removeIf(eventId -> eventId <= cursor);
+    }
+
+    private DomainEvent deserialize(OutboxRow row, Class<? extends DomainEvent> type) {
+        try {
+            return objectMapper.readValue(row.payload, type);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static class OutboxRow {
+
+        private final long eventId;
+        private final String eventType;
+        private final String payload;
+
+        private OutboxRow(long eventId, String eventType, String payload) {
+            this.eventId = eventId;
+            this.eventType = eventType;
+            this.payload = payload;
+        }
+    }
+
+}
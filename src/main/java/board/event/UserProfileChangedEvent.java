@@ -0,0 +1,13 @@
+package board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 닉네임 또는 프로필 이미지 변경
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileChangedEvent implements DomainEvent {
+    private String email;
+}
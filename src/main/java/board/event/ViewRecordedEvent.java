@@ -0,0 +1,16 @@
+package board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 조회수 버퍼 flush 마다 한 건 발행 (게시물 수만큼 outbox 행이 쌓이지 않도록 묶음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewRecordedEvent implements DomainEvent {
+    // 게시물 번호 -> 이번 flush 의 누적 조회수
+    private Map<Integer, Long> viewCounts;
+}
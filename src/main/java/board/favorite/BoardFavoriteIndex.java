@@ -0,0 +1,264 @@
+package board.favorite;
+
+import board.cache.CacheLoading;
+import board.dto.object.FavoriteListItem;
+import board.file.ImageUrlResolver;
+import board.repository.FavoriteRepository;
+import board.repository.resultSet.GetFavoriteListResultSet;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게시물별 좋아요 사용자 집합 (메모리)
+// 사용자 이메일을 정수 id 로 내부화하고 게시물마다 정렬된 int 배열로 보관하여,
+// 좋아요 수와 본인 좋아요 여부를 좋아요 목록 조회 없이 응답 (이진 탐색)
+// 앞쪽 N 명 미리보기(닉네임/프로필 이미지)는 좋아요 변경 시 비우고 다음 조회에서 LIMIT N 으로 다시 채움
+// 좋아요 변경은 outbox 로 모든 인스턴스에 전달되어 add/remove 로 반영하며 (DomainEventCacheHandler), 집합 연산이라 적재와 겹치거나 두 번 반영되어도 결과가 같음
+// 전달이 빠진 경우에 대비해 적재 후 reload-after-seconds 가 지나면 (조회/변경이 계속되어도) DB 에서 다시 적재
+// 이메일 -> id 표는 적재 세대별로 두고 크기가 maximum-user-ids 를 넘으면 새 표로 바꾸어, 이전 표는 그 표를 쓰는 항목과 함께 만료됨
+@Component
+public class BoardFavoriteIndex {
+
+    private final FavoriteRepository favoriteRepository;
+    private final ImageUrlResolver imageUrlResolver;
+    private final int previewSize;
+    // 적재(DB 조회)는 잠금 밖 호출 스레드에서 실행하고 (CacheLoading 참고), 이후 변경은 동기 뷰로 처리
+    private final AsyncCache<Integer, Entry> loadingCache;
+    private final Cache<Integer, Entry> cache;
+
+    private final int maximumUserIds;
+    // 새로 적재하는 항목이 쓰는 이메일 -> 내부 id 표
+    private volatile UserIds userIds = new UserIds();
+    private final ReentrantLock userIdsLock = new ReentrantLock();
+
+    public BoardFavoriteIndex(
+        FavoriteRepository favoriteRepository,
+        ImageUrlResolver imageUrlResolver,
+        MeterRegistry meterRegistry,
+        @Value("${board.favorite-index.maximum-size:10000}") long maximumSize,
+        @Value("${board.favorite-index.reload-after-seconds:300}") long reloadAfterSeconds,
+        @Value("${board.favorite-index.maximum-user-ids:1000000}") int maximumUserIds,
+        @Value("${board.favorite-index.preview-size:10}") int previewSize
+    ) {
+        this.favoriteRepository = favoriteRepository;
+        this.imageUrlResolver = imageUrlResolver;
+        this.previewSize = previewSize;
+        this.maximumUserIds = maximumUserIds;
+        this.loadingCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ReloadAfterLoad(Duration.ofSeconds(reloadAfterSeconds).toNanos()))
+            .recordStats()
+            .buildAsync();
+        this.cache = loadingCache.synchronous();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardFavorite");
+    }
+
+    // 존재하지 않는 게시물이면 null
+    public Summary getSummary(Integer boardNumber, String email) {
+        Entry entry = CacheLoading.get(loadingCache, boardNumber, this::load);
+        if (entry == null) return null;
+
+        // id 표가 바뀐 뒤 처음 조회되는 항목은 새 표로 다시 적재하여 이전 표를 빨리 놓음
+        if (entry.userIds != userIds) {
+            cache.asMap().remove(boardNumber, entry);
+            entry = CacheLoading.get(loadingCache, boardNumber, this::load);
+            if (entry == null) return null;
+        }
+
+        List<FavoriteListItem> previewList = entry.previewList;
+        if (previewList == null) {
+            List<FavoriteListItem> loaded = loadPreview(boardNumber);
+            // 그 사이 좋아요가 바뀌었으면 다음 조회에서 다시 채움
+            Entry loadedEntry = entry;
+            cache.asMap().computeIfPresent(boardNumber, (key, current) ->
+                current == loadedEntry ? new Entry(current.userIds, current.members, loaded) : current
+            );
+            previewList = loaded;
+        }
+
+        Integer userId = email == null ? null : entry.userIds.get(email);
+        boolean favorite = userId != null && Arrays.binarySearch(entry.members, userId) >= 0;
+
+        return new Summary(entry.members.length, favorite, previewList);
+    }
+
+    // 항목마다 적재할 때의 id 표를 그대로 사용
+    public void add(Integer boardNumber, String email) {
+        cache.asMap().computeIfPresent(boardNumber, (key, entry) -> entry.with(entry.userIds.intern(email)));
+    }
+
+    public void remove(Integer boardNumber, String email) {
+        cache.asMap().computeIfPresent(boardNumber, (key, entry) -> {
+            Integer userId = entry.userIds.get(email);
+            return userId == null ? entry : entry.without(userId);
+        });
+    }
+
+    public void invalidate(Integer boardNumber) {
+        cache.invalidate(boardNumber);
+    }
+
+    // 닉네임/프로필 이미지 변경 시 해당 사용자가 포함된 미리보기만 비움
+    public void invalidateUser(String email) {
+        for (Integer boardNumber : cache.asMap().keySet()) {
+            cache.asMap().computeIfPresent(boardNumber, (key, entry) ->
+                entry.previews(email) ? new Entry(entry.userIds, entry.members, null) : entry
+            );
+        }
+    }
+
+    private Entry load(Integer boardNumber) {
+        List<String> emails = favoriteRepository.getFavoriterEmailList(boardNumber);
+        if (emails.isEmpty()) return null;
+
+        UserIds current = currentUserIds();
+        int[] members = new int[emails.size()];
+        int size = 0;
+        for (String email : emails) {
+            if (email != null) members[size++] = current.intern(email);
+        }
+        members = Arrays.copyOf(members, size);
+        Arrays.sort(members);
+
+        return new Entry(current, members, null);
+    }
+
+    // 표가 가득 차면 새 표로 교체 (이전 표를 쓰는 항목은 다음 조회 또는 만료 시 새 표로 다시 적재)
+    private UserIds currentUserIds() {
+        UserIds current = userIds;
+        if (current.size() < maximumUserIds) return current;
+
+        userIdsLock.lock();
+        try {
+            if (userIds == current) userIds = new UserIds();
+            return userIds;
+        } finally {
+            userIdsLock.unlock();
+        }
+    }
+
+    private List<FavoriteListItem> loadPreview(Integer boardNumber) {
+        List<FavoriteListItem> previewList = new ArrayList<>();
+        for (GetFavoriteListResultSet resultSet : favoriteRepository.getFavoriteList(boardNumber, previewSize)) {
+            if (resultSet.getEmail() != null) previewList.add(new FavoriteListItem(resultSet, imageUrlResolver));
+        }
+        return Collections.unmodifiableList(previewList);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+        private int favoriteCount;
+        private boolean favorite;
+        private List<FavoriteListItem> previewList;
+    }
+
+    // 이메일 -> 내부 id (한 세대 안에서는 증가만 함)
+    private static class UserIds {
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        private int intern(String email) {
+            return ids.computeIfAbsent(email, key -> nextId.getAndIncrement());
+        }
+
+        private Integer get(String email) {
+            return ids.get(email);
+        }
+
+        private int size() {
+            return ids.size();
+        }
+    }
+
+    // 적재 시점부터 고정된 시간 후 만료 (좋아요 변경으로 항목이 교체되거나 조회되어도 연장되지 않음)
+    private static class ReloadAfterLoad implements Expiry<Integer, Entry> {
+
+        private final long reloadAfterNanos;
+
+        private ReloadAfterLoad(long reloadAfterNanos) {
+            this.reloadAfterNanos = reloadAfterNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Integer key, Entry value, long currentTime) {
+            return reloadAfterNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Integer key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // 불변: 변경 시 새 Entry 로 교체
+    private static class Entry {
+
+        // members 의 id 를 발급한 표
+        private final UserIds userIds;
+        private final int[] members;
+        // null 이면 다시 채워야 함
+        private final List<FavoriteListItem> previewList;
+
+        private Entry(UserIds userIds, int[] members, List<FavoriteListItem> previewList) {
+            this.userIds = userIds;
+            this.members = members;
+            this.previewList = previewList;
+        }
+
+        private Entry with(int userId) {
+            int index = Arrays.binarySearch(members, userId);
+            if (index >= 0) return this;
+
+            int insertion = -index - 1;
+            int[] added = new int[members.length + 1];
+            System.arraycopy(members, 0, added, 0, insertion);
+            added[insertion] = userId;
+            System.arraycopy(members, insertion, added, insertion + 1, members.length - insertion);
+            return new Entry(userIds, added, null);
+        }
+
+        private Entry without(int userId) {
+            int index = Arrays.binarySearch(members, userId);
+            if (index < 0) return this;
+
+            int[] removed = new int[members.length - 1];
+            System.arraycopy(members, 0, removed, 0, index);
+            System.arraycopy(members, index + 1, removed, index, members.length - index - 1);
+            return new Entry(userIds, removed, null);
+        }
+
+        private boolean previews(String email) {
+            if (previewList == null) return false;
+            for (FavoriteListItem item : previewList) {
+                if (email.equals(item.getEmail())) return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+package board.file;
+
+import board.repository.StoredFileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+// 내용 주소 기반 업로드 저장소
+// 업로드를 SHA-256 으로 해시하면서 임시 파일에 쓰고, {해시}{확장자} 파일명으로 원자적 이동하여 같은 내용은 한 번만 저장
+// 게시물 이미지/프로필 이미지의 참조 수를 stored_file 에 기록하고, 참조가 없어진 파일은 유예 시간 후 파생본과 함께 삭제
+// (해시 기반 이전의 UUID 파일명은 참조 수 관리 대상이 아님)
+// 여러 인스턴스가 같은 디렉터리를 쓰므로, 정리는 stored_file 행을 잠근 트랜잭션 안에서 파일을 지우고 행을 삭제하며
+// 업로드의 touch 는 그 잠금이 풀린 뒤에 반영되어, touch 이후의 파일 존재 확인이 다른 인스턴스의 삭제와 겹치지 않음
+@Component
+public class ContentAddressedFileStore {
+
+    private static final Pattern STORED_FILE_NAME_PATTERN = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int LOCK_STRIPES = 64;
+    private static final int GC_CHUNK_SIZE = 100;
+
+    private final StoredFileRepository storedFileRepository;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final String fileUrl;
+    private final long orphanGraceHours;
+
+    // 같은 인스턴스 안에서 같은 파일명에 대한 저장(이동)과 정리(삭제)가 겹치지 않도록 파일명 해시로 나눈 잠금
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public ContentAddressedFileStore(
+        StoredFileRepository storedFileRepository,
+        ImageDerivativeGenerator imageDerivativeGenerator,
+        TransactionTemplate transactionTemplate,
+        @Value("${file.path}") String filePath,
+        @Value("${file.url}") String fileUrl,
+        @Value("${board.file-store.orphan-grace-hours:24}") long orphanGraceHours
+    ) {
+        this.storedFileRepository = storedFileRepository;
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.transactionTemplate = transactionTemplate;
+        this.directory = Paths.get(filePath).toAbsolutePath().normalize();
+        this.fileUrl = fileUrl;
+        this.orphanGraceHours = orphanGraceHours;
+
+        for (int i = 0; i < LOCK_STRIPES; i++)
+            locks[i] = new ReentrantLock();
+    }
+
+    // 저장된 파일명({해시}{확장자}) 반환
+    public String store(MultipartFile file) throws IOException {
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()) + extensionOf(file.getOriginalFilename());
+            Path target = directory.resolve(fileName);
+            boolean created;
+
+            ReentrantLock lock = lockOf(fileName);
+            lock.lock();
+            try {
+                // 다른 인스턴스가 이 파일을 정리 중이면 touch 는 그 삭제가 커밋될 때까지 대기하므로,
+                // 이후 파일이 없으면 (정리되었거나 처음 업로드) 업로드한 내용으로 다시 만듦
+                storedFileRepository.touch(fileName, now());
+                created = !Files.exists(target);
+                if (created)
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                lock.unlock();
+            }
+
+            // 중복 업로드는 기존 파일과 파생본을 그대로 사용
+            // 대기열이 가득 차 거절되어도 업로드는 성공으로 처리하고, 파생본은 조회 시 다시 생성 요청
+            if (created) {
+                try {
+                    imageDerivativeGenerator.generate(target);
+                } catch (TaskRejectedException e) {
+                    System.err.println("이미지 파생본 생성 지연: " + fileName);
+                }
+            }
+
+            return fileName;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 이미지 URL 이 새로 참조될 때 (게시물 작성/수정, 프로필 이미지 변경)
+    public void attach(Collection<String> imageUrls) {
+        String datetime = now();
+        countByFileName(imageUrls).forEach((fileName, count) ->
+            storedFileRepository.increaseReferenceCount(fileName, count, datetime)
+        );
+    }
+
+    // 이미지 URL 참조가 없어질 때 (게시물 수정/삭제, 프로필 이미지 변경)
+    public void detach(Collection<String> imageUrls) {
+        String datetime = now();
+        countByFileName(imageUrls).forEach((fileName, count) ->
+            storedFileRepository.decreaseReferenceCount(fileName, count, datetime)
+        );
+    }
+
+    @Scheduled(
+        initialDelayString = "${board.file-store.gc-interval-ms:3600000}",
+        fixedDelayString = "${board.file-store.gc-interval-ms:3600000}"
+    )
+    public void collectGarbage() {
+        String cutoff = LocalDateTime.now().minusHours(orphanGraceHours).format(DATETIME_FORMATTER);
+
+        try {
+            List<String> orphans;
+            do {
+                orphans = storedFileRepository.getOrphanList(cutoff, GC_CHUNK_SIZE);
+                for (String fileName : orphans) delete(fileName, cutoff);
+            } while (orphans.size() == GC_CHUNK_SIZE);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void delete(String fileName, String cutoff) {
+        ReentrantLock lock = lockOf(fileName);
+        lock.lock();
+        try {
+            // 행 잠금 후 다시 확인하여, 목록 조회 이후 참조되거나 재업로드된 파일은 건너뜀
+            transactionTemplate.executeWithoutResult(status -> {
+                if (storedFileRepository.lockOrphan(fileName, cutoff).isEmpty()) return;
+
+                try {
+                    Files.deleteIfExists(directory.resolve(fileName));
+                    for (ImageVariant variant : ImageVariant.values())
+                        Files.deleteIfExists(directory.resolve(variant.fileName(fileName)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                storedFileRepository.deleteOrphan(fileName, cutoff);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Integer> countByFileName(Collection<String> imageUrls) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (imageUrls == null) return counts;
+
+        for (String imageUrl : imageUrls) {
+            String fileName = fileNameOf(imageUrl);
+            if (fileName != null) counts.merge(fileName, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    // 이 저장소가 발급한 URL 이면 파일명, 외부 URL(구글 프로필 등)이나 이전 UUID 파일이면 null
+    private String fileNameOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(fileUrl)) return null;
+
+        String fileName = imageUrl.substring(fileUrl.length());
+        int query = fileName.indexOf('?');
+        if (query >= 0) fileName = fileName.substring(0, query);
+
+        return STORED_FILE_NAME_PATTERN.matcher(fileName).matches() ? fileName : null;
+    }
+
+    private ReentrantLock lockOf(String fileName) {
+        return locks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 허용된 이미지 확장자만 파일명에 사용 (FileServiceImpl 에서 업로드 시 이미 검증)
+    private static String extensionOf(String originalFileName) {
+        String extension = ImageContentType.extensionOf(originalFileName);
+        return extension == null ? "" : extension;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DATETIME_FORMATTER);
+    }
+
+}
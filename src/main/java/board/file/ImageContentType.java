@@ -0,0 +1,40 @@
+package board.file;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 업로드/전송을 허용하는 이미지 형식 (확장자 기준)
+// 스크립트를 담을 수 있는 SVG 등은 제외하여, 업로드 파일이 같은 출처의 문서로 렌더링되지 않도록 함
+public final class ImageContentType {
+
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+        ".jpg", MediaType.IMAGE_JPEG,
+        ".jpeg", MediaType.IMAGE_JPEG,
+        ".png", MediaType.IMAGE_PNG,
+        ".gif", MediaType.IMAGE_GIF,
+        ".webp", MediaType.parseMediaType("image/webp")
+    );
+
+    private ImageContentType() {
+    }
+
+    // 허용된 이미지 확장자면 소문자 확장자(.png), 아니면 null
+    public static String extensionOf(String fileName) {
+        if (fileName == null) return null;
+
+        int index = fileName.lastIndexOf('.');
+        if (index < 0) return null;
+
+        String extension = fileName.substring(index).toLowerCase(Locale.ROOT);
+        return MEDIA_TYPES.containsKey(extension) ? extension : null;
+    }
+
+    // 허용된 이미지 형식이면 MediaType, 아니면 null
+    public static MediaType mediaTypeOf(String fileName) {
+        String extension = extensionOf(fileName);
+        return extension == null ? null : MEDIA_TYPES.get(extension);
+    }
+
+}
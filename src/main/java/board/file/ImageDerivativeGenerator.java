@@ -0,0 +1,137 @@
+package board.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+// 업로드 원본 옆에 크기별 파생본(thumb/card/full) 생성
+// 원본보다 작게 만들 필요가 없거나 ImageIO 로 읽을 수 없는 형식이면 원본을 그대로 복사하여
+// 파생본이 없는 경우는 "아직 생성 중" 으로만 취급할 수 있게 함
+// 디코딩 전에 헤더의 가로/세로만 읽어, 픽셀 수가 max-pixels 를 넘는 원본(압축 폭탄 등)은 디코딩하지 않고 원본 복사로 대신하며
+// 가장 큰 파생본보다 훨씬 큰 원본은 서브샘플링으로 줄여 읽어 디코딩 메모리를 제한
+@Component
+public class ImageDerivativeGenerator {
+
+    private final long maxPixels;
+
+    public ImageDerivativeGenerator(@Value("${board.image.max-pixels:40000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    // 완료(실패 포함) 시점을 알 수 있도록 future 반환, 대기열이 가득 차면 호출 시 TaskRejectedException
+    @Async("imageTaskExecutor")
+    public CompletableFuture<Void> generate(Path original) {
+        try {
+            String fileName = original.getFileName().toString();
+            String format = formatOf(fileName);
+            BufferedImage source = format == null ? null : read(original);
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = original.resolveSibling(variant.fileName(fileName));
+                if (Files.exists(target)) continue;
+
+                Path temp = Files.createTempFile(original.getParent(), ".derivative-", ".tmp");
+                try {
+                    if (source == null || !needsResize(source, variant.getMaxSize())) {
+                        Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+                    } else if (!ImageIO.write(resize(source, variant.getMaxSize(), format), format, temp.toFile())) {
+                        Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("이미지 파생본 생성 실패: " + original);
+            e.printStackTrace();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // 읽을 수 없는 형식이거나 픽셀 수 상한을 넘으면 null
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    System.err.println("이미지 픽셀 수 상한 초과로 파생본 생략: " + original + " (" + width + "x" + height + ")");
+                    return null;
+                }
+
+                // 긴 변이 가장 큰 파생본(full) 이상으로 남는 범위에서 정수 배율로 줄여 읽음
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / ImageVariant.FULL.getMaxSize());
+                if (subsampling > 1) param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static boolean needsResize(BufferedImage image, int maxSize) {
+        return image.getWidth() > maxSize || image.getHeight() > maxSize;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize, String format) {
+        double scale = Math.min((double) maxSize / source.getWidth(), (double) maxSize / source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG 는 알파 채널을 쓸 수 없으므로 RGB
+        boolean alpha = !format.equals("jpg") && source.getColorModel().hasAlpha();
+        BufferedImage resized = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (!alpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static String formatOf(String fileName) {
+        int index = fileName.lastIndexOf('.');
+        if (index < 0) return null;
+
+        String extension = fileName.substring(index + 1).toLowerCase(Locale.ROOT);
+        return switch (extension) {
+            case "jpg", "jpeg" -> "jpg";
+            case "png", "gif", "bmp" -> extension;
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package board.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이 서버가 발급한 업로드 이미지 URL 을 크기별 파생본 URL 로 변환
+@Component
+public class ImageUrlResolver {
+
+    // 이 서버가 발급한 업로드 URL 접두사
+    private final String fileUrl;
+
+    public ImageUrlResolver(@Value("${file.url}") String fileUrl) {
+        this.fileUrl = fileUrl;
+    }
+
+    // 업로드 이미지 URL 에 크기 파라미터 추가 (file.url 밖의 외부 URL 이나 이미 쿼리가 있는 URL 은 그대로)
+    public String url(String imageUrl, ImageVariant variant) {
+        if (imageUrl == null || !imageUrl.startsWith(fileUrl) || imageUrl.indexOf('?') >= 0) return imageUrl;
+        return imageUrl + "?size=" + variant.getParam();
+    }
+
+}
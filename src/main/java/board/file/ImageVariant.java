@@ -0,0 +1,33 @@
+package board.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 업로드 이미지 파생본 크기 (긴 변 기준 최대 픽셀)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 200),
+    CARD("card", 640),
+    FULL("full", 1600);
+
+    private final String param;
+    private final int maxSize;
+
+    public static ImageVariant fromParam(String param) {
+        if (param == null) return null;
+        for (ImageVariant variant : values()) {
+            if (variant.param.equalsIgnoreCase(param)) return variant;
+        }
+        return null;
+    }
+
+    // uuid.jpg -> uuid_card.jpg
+    public String fileName(String originalFileName) {
+        int index = originalFileName.lastIndexOf('.');
+        if (index < 0) return originalFileName + "_" + param;
+        return originalFileName.substring(0, index) + "_" + param + originalFileName.substring(index);
+    }
+
+}
@@ -0,0 +1,181 @@
+package board.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 업로드 파일 전송
+// 파일명이 UUID/해시 기반이라 내용이 바뀌지 않으므로 장기 캐시 + ETag/Last-Modified 조건부 요청(304) 지원
+// 단일 byte-range 요청(206)을 지원하며, 본문은 Tomcat sendfile 또는 FileChannel.transferTo 로 복사 없이 전송
+// 허용된 이미지 형식만 해당 Content-Type 으로 보내고, 그 외(이전 업로드 등)는 다운로드로만 전송 (저장형 XSS 방지)
+@Component
+public class StaticFileSender {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SHORT_CACHE_CONTROL = "public, max-age=60";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public void send(Path file, boolean immutable, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(file);
+        // HTTP 날짜는 초 단위이므로 비교를 위해 밀리초 버림
+        long lastModified = Files.getLastModifiedTime(file).toMillis() / 1000 * 1000;
+        String fileName = file.getFileName().toString();
+        String eTag = "\"" + fileName + "-" + Long.toHexString(length) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? CACHE_CONTROL : SHORT_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        MediaType mediaType = ImageContentType.mediaTypeOf(fileName);
+        if (mediaType != null) {
+            response.setContentType(mediaType.toString());
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(request, eTag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0)
+            return;
+
+        // Tomcat NIO 커넥터가 sendfile 을 지원하면 커널에서 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null)
+            return matchesETag(ifNoneMatch, eTag);
+
+        long ifModifiedSince = readDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    // If-Range 가 현재 ETag/수정일시와 다르면 Range 를 무시하고 전체 전송
+    private static boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null)
+            return true;
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/"))
+            return ifRange.equals(eTag);
+
+        long ifRangeDate = readDateHeader(request, HttpHeaders.IF_RANGE);
+        return ifRangeDate == lastModified;
+    }
+
+    private static boolean matchesETag(String header, String eTag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) return true;
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    private static long readDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    // 단일 범위만 지원: {start, end} 반환, 다중 범위/형식 오류는 빈 배열(전체 전송), 범위 불만족은 null
+    private static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0)
+            return new long[0];
+
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0)
+            return new long[0];
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return null;
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+
+            if (start >= length || start > end)
+                return null;
+
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+}
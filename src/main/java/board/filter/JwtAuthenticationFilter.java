@@ -29,7 +29,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String requestUri = request.getRequestURI();
-        System.out.println("Request Path = " + requestUri);
 
         if (requestUri.startsWith("/api/v1/file")) {
             filterChain.doFilter(request, response);
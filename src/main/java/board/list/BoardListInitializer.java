@@ -0,0 +1,30 @@
+package board.list;
+
+import board.repository.BoardListRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 목록 조회용 board_list 테이블 (board_list_view 를 대체하는 비정규화 테이블, V7 마이그레이션에서 생성)
+// board + user + 대표 이미지를 미리 합쳐 두고, 작성/수정/삭제, 좋아요/댓글/조회수, 작성자 정보 변경 시 같은 트랜잭션에서 갱신
+// 기동 시 누락된 게시물을 채운 뒤 요청을 받음 (목록이 비어 보이지 않도록 동기 처리, 여러 인스턴스가 동시에 실행해도 됨)
+@Component
+@RequiredArgsConstructor
+public class BoardListInitializer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BoardListRepository boardListRepository;
+
+    @PostConstruct
+    public void initialize() {
+        // 이전 버전에서 삭제된 게시물의 행 정리 후 없는 게시물 적재
+        boardListRepository.deleteOrphans();
+
+        int inserted;
+        do {
+            inserted = boardListRepository.insertMissing(CHUNK_SIZE);
+        } while (inserted == CHUNK_SIZE);
+    }
+
+}
@@ -0,0 +1,58 @@
+package board.provider;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// Google ID Token 검증 (애플리케이션 전체에서 하나의 인스턴스 사용)
+// 발급자/대상/유효 시간을 확인한 뒤 GooglePublicKeySource 의 캐시된 공개키로 서명 검증
+@Component
+public class GoogleIdTokenProvider {
+
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long ACCEPTABLE_TIME_SKEW_SECONDS = 300;
+
+    private final JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    private final GooglePublicKeySource publicKeySource;
+    private final Collection<String> audience;
+
+    public GoogleIdTokenProvider(
+        GooglePublicKeySource publicKeySource,
+        @Value("${google.client-id}") String googleClientId
+    ) {
+        this.publicKeySource = publicKeySource;
+        this.audience = Collections.singletonList(googleClientId);
+    }
+
+    // 검증 실패 시 null
+    public GoogleIdToken.Payload verify(String idToken) throws GeneralSecurityException, IOException {
+        GoogleIdToken googleIdToken;
+        try {
+            googleIdToken = GoogleIdToken.parse(jsonFactory, idToken);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        boolean validClaims = googleIdToken.verifyIssuer(ISSUERS)
+            && googleIdToken.verifyAudience(audience)
+            && googleIdToken.verifyTime(System.currentTimeMillis(), ACCEPTABLE_TIME_SKEW_SECONDS);
+        if (!validClaims)
+            return null;
+
+        for (PublicKey publicKey : publicKeySource.getPublicKeys()) {
+            if (googleIdToken.verifySignature(publicKey))
+                return googleIdToken.getPayload();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,14 @@
+package board.provider;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+
+// Google ID Token 서명 검증용 공개키 공급원
+// google.public-key-source=remote(기본) 이면 Google 인증서 엔드포인트, local 이면 로컬 PEM 파일
+public interface GooglePublicKeySource {
+
+    List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException;
+
+}
@@ -1,24 +1,81 @@
 package board.provider;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+// JWT 발급/검증
+// 파서는 한 번만 생성하여 재사용하고(스레드 안전), 서명 검증에 성공한 토큰은
+// SHA-256 다이제스트 -> (subject, 만료 시각) 으로 만료 시각까지만 캐시하여 같은 토큰의 재검증을 생략
+// 검증 실패 토큰은 캐시하지 않음
 @Component
 public class JwtProvider {
 
     private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, ValidatedToken> validatedTokens;
 
-    public JwtProvider(@Value("${secret-key}") String secretKey) {
+    private final Timer verificationTimer;
+    private final Counter invalidCounter;
+
+    public JwtProvider(
+        @Value("${secret-key}") String secretKey,
+        MeterRegistry meterRegistry,
+        @Value("${board.jwt.cache.maximum-size:10000}") long maximumSize
+    ) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
+        this.validatedTokens = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, ValidatedToken>() {
+                @Override
+                public long expireAfterCreate(String digest, ValidatedToken token, long currentTime) {
+                    long remainingMillis = token.expiresAtMillis - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, ValidatedToken token, long currentTime, long currentDuration) {
+                    return expireAfterCreate(digest, token, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String digest, ValidatedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+        // cache.gets{cache=jwt,result=hit|miss} 로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, validatedTokens, "jwt");
+        this.verificationTimer = Timer.builder("jwt.verification").register(meterRegistry);
+        this.invalidCounter = Counter.builder("jwt.verification.invalid").register(meterRegistry);
     }
 
     public String create(String email) {
@@ -33,16 +90,48 @@ public class JwtProvider {
     }
 
     public String validate(String jwt) {
+        String digest = digest(jwt);
+
+        ValidatedToken cached = validatedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis > System.currentTimeMillis())
+            return cached.subject;
+
+        Claims claims;
+        Timer.Sample sample = Timer.start();
         try {
-            Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jwt)
-                .getBody();
-            return claims.getSubject();
-        } catch (Exception e) {
-            e.printStackTrace();
+            claims = parser.parseClaimsJws(jwt).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
             return null;
+        } finally {
+            sample.stop(verificationTimer);
+        }
+
+        String subject = claims.getSubject();
+        Date expiration = claims.getExpiration();
+        if (subject != null && expiration != null)
+            validatedTokens.put(digest, new ValidatedToken(subject, expiration.getTime()));
+
+        return subject;
+    }
+
+    private static String digest(String jwt) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ValidatedToken {
+
+        private final String subject;
+        private final long expiresAtMillis;
+
+        private ValidatedToken(String subject, long expiresAtMillis) {
+            this.subject = subject;
+            this.expiresAtMillis = expiresAtMillis;
         }
     }
 }
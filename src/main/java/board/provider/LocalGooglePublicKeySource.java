@@ -0,0 +1,42 @@
+package board.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 로컬 PEM 인증서 파일의 공개키 (오프라인 개발/테스트용)
+// google.public-key-source=local 일 때 사용하며, 해당 개인키로 서명한 ID Token 만 통과
+@Component
+@ConditionalOnProperty(name = "google.public-key-source", havingValue = "local")
+public class LocalGooglePublicKeySource implements GooglePublicKeySource {
+
+    private final List<PublicKey> publicKeys;
+
+    public LocalGooglePublicKeySource(
+        @Value("${google.public-key.local-location:classpath:google-public-keys.pem}") Resource location
+    ) throws GeneralSecurityException, IOException {
+        List<PublicKey> keys = new ArrayList<>();
+        try (InputStream inputStream = location.getInputStream()) {
+            for (Certificate certificate : CertificateFactory.getInstance("X.509").generateCertificates(inputStream))
+                keys.add(certificate.getPublicKey());
+        }
+        this.publicKeys = Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public List<PublicKey> getPublicKeys() {
+        return publicKeys;
+    }
+
+}
@@ -0,0 +1,58 @@
+package board.provider;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+
+// Google 인증서 엔드포인트의 공개키
+// GooglePublicKeysManager 가 응답의 Cache-Control max-age 만큼 키를 보관하며,
+// 만료가 가까워지면 백그라운드에서 미리 갱신하여 로그인 요청이 인증서 조회를 기다리지 않도록 함
+@Component
+@ConditionalOnProperty(name = "google.public-key-source", havingValue = "remote", matchIfMissing = true)
+public class RemoteGooglePublicKeySource implements GooglePublicKeySource {
+
+    private final GooglePublicKeysManager publicKeysManager;
+    private final long refreshBeforeExpiryMs;
+
+    public RemoteGooglePublicKeySource(
+        @Value("${google.public-key.refresh-before-expiry-ms:900000}") long refreshBeforeExpiryMs
+    ) {
+        this.publicKeysManager = new GooglePublicKeysManager.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
+            .build();
+        this.refreshBeforeExpiryMs = refreshBeforeExpiryMs;
+    }
+
+    @Override
+    public List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException {
+        return publicKeysManager.getPublicKeys();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${google.public-key.check-interval-ms:60000}",
+        fixedDelayString = "${google.public-key.check-interval-ms:60000}"
+    )
+    public void refreshIfExpiring() {
+        long remaining = publicKeysManager.getExpirationTimeMilliseconds() - System.currentTimeMillis();
+        if (remaining > refreshBeforeExpiryMs) return;
+
+        try {
+            publicKeysManager.refresh();
+        } catch (GeneralSecurityException | IOException e) {
+            // 실패해도 기존 키는 만료 전까지 사용되며, 다음 주기에 재시도
+            e.printStackTrace();
+        }
+    }
+
+}
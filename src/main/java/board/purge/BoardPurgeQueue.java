@@ -0,0 +1,160 @@
+package board.purge;
+
+import board.entity.BoardPurgeEntity;
+import board.entity.ImageEntity;
+import board.file.ContentAddressedFileStore;
+import board.repository.*;
+import board.repository.resultSet.GetBoardListResultSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시물과 종속 데이터(이미지/댓글/좋아요/목록 행) 삭제
+// immediate(기본): 호출한 트랜잭션 안에서 게시물 번호 조건 일괄 DELETE 로 모두 삭제
+// deferred: board_purge 에 기록만 하고 즉시 숨긴 뒤, 백그라운드에서 댓글/좋아요를 나누어 삭제하고 마지막에 게시물 삭제
+@Component
+public class BoardPurgeQueue {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BoardRepository boardRepository;
+    private final BoardListRepository boardListRepository;
+    private final ImageRepository imageRepository;
+    private final CommentRepository commentRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final BoardPurgeRepository boardPurgeRepository;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean deferred;
+    private final int chunkSize;
+
+    // 삭제 요청되어 조회/작성 대상에서 제외할 게시물 번호
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+
+    public BoardPurgeQueue(
+        BoardRepository boardRepository,
+        BoardListRepository boardListRepository,
+        ImageRepository imageRepository,
+        CommentRepository commentRepository,
+        FavoriteRepository favoriteRepository,
+        BoardPurgeRepository boardPurgeRepository,
+        ContentAddressedFileStore contentAddressedFileStore,
+        TransactionTemplate transactionTemplate,
+        @Value("${board.delete.mode:immediate}") String mode,
+        @Value("${board.delete.purge-chunk-size:1000}") int chunkSize
+    ) {
+        this.boardRepository = boardRepository;
+        this.boardListRepository = boardListRepository;
+        this.imageRepository = imageRepository;
+        this.commentRepository = commentRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.boardPurgeRepository = boardPurgeRepository;
+        this.contentAddressedFileStore = contentAddressedFileStore;
+        this.transactionTemplate = transactionTemplate;
+        this.deferred = "deferred".equalsIgnoreCase(mode);
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isPending(Integer boardNumber) {
+        return !pending.isEmpty() && pending.contains(boardNumber);
+    }
+
+    public <T extends GetBoardListResultSet> List<T> exclude(List<T> resultSets) {
+        if (pending.isEmpty()) return resultSets;
+        return resultSets.stream()
+            .filter(resultSet -> !pending.contains(resultSet.getBoardNumber()))
+            .toList();
+    }
+
+    // 호출한 트랜잭션 안에서 실행 (작성자 확인 이후)
+    public void delete(Integer boardNumber) {
+        // 목록에서는 지연 삭제 모드에서도 즉시 제외
+        boardListRepository.deleteByBoardNumber(boardNumber);
+
+        if (!deferred) {
+            purge(boardNumber);
+            return;
+        }
+
+        boardPurgeRepository.insertIfAbsent(boardNumber, LocalDateTime.now().format(DATETIME_FORMATTER));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.add(boardNumber);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            for (BoardPurgeEntity boardPurgeEntity : boardPurgeRepository.findAll())
+                pending.add(boardPurgeEntity.getBoardNumber());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${board.delete.purge-interval-ms:5000}",
+        fixedDelayString = "${board.delete.purge-interval-ms:5000}"
+    )
+    public void purgePending() {
+        List<BoardPurgeEntity> boardPurgeEntities;
+        try {
+            boardPurgeEntities = boardPurgeRepository.findAllByOrderByRequestDatetimeAsc();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return;
+        }
+
+        for (BoardPurgeEntity boardPurgeEntity : boardPurgeEntities) {
+            int boardNumber = boardPurgeEntity.getBoardNumber();
+            try {
+                // 잠금 시간을 짧게 유지하도록 댓글/좋아요는 chunk 단위 트랜잭션으로 먼저 삭제
+                int deleted;
+                do {
+                    deleted = commentRepository.deleteByBoardNumber(boardNumber, chunkSize);
+                } while (deleted == chunkSize);
+                do {
+                    deleted = favoriteRepository.deleteByBoardNumber(boardNumber, chunkSize);
+                } while (deleted == chunkSize);
+
+                // 그 사이 추가된 행까지 게시물과 함께 한 트랜잭션으로 정리
+                transactionTemplate.executeWithoutResult(status -> {
+                    purge(boardNumber);
+                    boardPurgeRepository.deleteById(boardNumber);
+                });
+                pending.remove(boardNumber);
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void purge(Integer boardNumber) {
+        List<String> imageList = imageRepository.findByBoardNumber(boardNumber).stream()
+            .map(ImageEntity::getImage)
+            .toList();
+
+        imageRepository.deleteByBoardNumber(boardNumber);
+        commentRepository.deleteByBoardNumber(boardNumber);
+        favoriteRepository.deleteByBoardNumber(boardNumber);
+        boardRepository.deleteBoard(boardNumber);
+        boardListRepository.deleteByBoardNumber(boardNumber);
+        contentAddressedFileStore.detach(imageList);
+    }
+
+}
@@ -0,0 +1,230 @@
+package board.ranking;
+
+import board.repository.BoardListRepository;
+import board.repository.BoardRepository;
+import board.repository.resultSet.GetBoardListResultSet;
+import board.repository.resultSet.GetBoardRankingResultSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 최근 7일 게시물 Top 3 (메모리)
+// 좋아요/댓글/조회 이벤트(Top3BoardRankingEventHandler)로 점수를 갱신하고, 변경이 있으면 주기적으로 크기 3 힙으로 재선정하여 스냅샷 교체
+// 조회는 스냅샷만 반환하며, 누락 보정을 위해 주기적으로 DB 와 대조
+// 대조 중(DB 조회 ~ 교체)에 들어온 증감은 기록해 두었다가 교체 전에 새 점수에 다시 반영하여 사라지지 않도록 함
+// (조회 직전에 커밋되었으나 늦게 전달된 이벤트는 다음 대조까지 두 번 반영될 수 있음)
+@Component
+@RequiredArgsConstructor
+public class Top3BoardRanking {
+
+    private static final int TOP_SIZE = 3;
+    private static final int WINDOW_DAYS = 7;
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 좋아요 > 댓글 > 조회수 > 작성일시 > 게시물 번호 순 (오름차순, 힙의 최소값이 탈락 대상)
+    private static final Comparator<RankingEntry> RANKING_ORDER = Comparator
+        .comparingInt((RankingEntry entry) -> entry.favoriteCount.get())
+        .thenComparingInt(entry -> entry.commentCount.get())
+        .thenComparingLong(entry -> entry.viewCount.get())
+        .thenComparing(entry -> entry.writeDatetime)
+        .thenComparingInt(entry -> entry.boardNumber);
+
+    private final BoardRepository boardRepository;
+    private final BoardListRepository boardListRepository;
+
+    private volatile Map<Integer, RankingEntry> entries = new ConcurrentHashMap<>();
+    private volatile List<GetBoardListResultSet> top3 = Collections.emptyList();
+    private volatile boolean dirty = false;
+    private volatile boolean ready = false;
+
+    // 증감 반영과 대조 결과 교체가 겹치지 않도록 함
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // 대조 중 반영된 증감 (대조 중이 아니면 null, updateLock 안에서만 접근)
+    private List<Change> pendingChanges = null;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<GetBoardListResultSet> getTop3() {
+        return top3;
+    }
+
+    // 이미 있으면 유지 (중복 전달된 작성 이벤트로 점수가 초기화되지 않도록)
+    public void onBoardPosted(int boardNumber, String writeDatetime) {
+        apply(target -> target.putIfAbsent(boardNumber, new RankingEntry(boardNumber, writeDatetime, 0, 0, 0)) == null);
+    }
+
+    public void onBoardPatched(Integer boardNumber) {
+        apply(target -> target.containsKey(boardNumber));
+    }
+
+    public void onBoardDeleted(Integer boardNumber) {
+        apply(target -> target.remove(boardNumber) != null);
+    }
+
+    public void onFavorite(Integer boardNumber, int delta) {
+        apply(target -> {
+            RankingEntry entry = target.get(boardNumber);
+            if (entry == null) return false;
+            entry.favoriteCount.addAndGet(delta);
+            return true;
+        });
+    }
+
+    public void onComment(Integer boardNumber) {
+        apply(target -> {
+            RankingEntry entry = target.get(boardNumber);
+            if (entry == null) return false;
+            entry.commentCount.incrementAndGet();
+            return true;
+        });
+    }
+
+    public void onView(Integer boardNumber, long delta) {
+        apply(target -> {
+            RankingEntry entry = target.get(boardNumber);
+            if (entry == null) return false;
+            entry.viewCount.addAndGet(delta);
+            return true;
+        });
+    }
+
+    private void apply(Change change) {
+        updateLock.lock();
+        try {
+            if (change.applyTo(entries)) dirty = true;
+            if (pendingChanges != null) pendingChanges.add(change);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${board.ranking.reconcile-interval-ms:600000}",
+        fixedDelayString = "${board.ranking.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        updateLock.lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            updateLock.unlock();
+        }
+
+        try {
+            List<GetBoardRankingResultSet> resultSets = boardRepository.getRankingList(windowStart());
+
+            Map<Integer, RankingEntry> reconciled = new ConcurrentHashMap<>();
+            for (GetBoardRankingResultSet resultSet : resultSets) {
+                RankingEntry entry = new RankingEntry(
+                    resultSet.getBoardNumber(),
+                    resultSet.getWriteDatetime(),
+                    resultSet.getFavoriteCount(),
+                    resultSet.getCommentCount(),
+                    resultSet.getViewCount()
+                );
+                reconciled.put(entry.boardNumber, entry);
+            }
+
+            updateLock.lock();
+            try {
+                for (Change change : pendingChanges) change.applyTo(reconciled);
+                entries = reconciled;
+                dirty = true;
+            } finally {
+                pendingChanges = null;
+                updateLock.unlock();
+            }
+
+            refresh();
+            ready = true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            updateLock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.ranking.refresh-interval-ms:1000}")
+    public void refresh() {
+        // 7일이 지난 게시물 만료
+        String windowStart = windowStart();
+        if (entries.values().removeIf(entry -> entry.writeDatetime.compareTo(windowStart) <= 0))
+            dirty = true;
+
+        if (!dirty) return;
+        dirty = false;
+
+        PriorityQueue<RankingEntry> heap = new PriorityQueue<>(TOP_SIZE + 1, RANKING_ORDER);
+        for (RankingEntry entry : entries.values()) {
+            heap.offer(entry);
+            if (heap.size() > TOP_SIZE) heap.poll();
+        }
+
+        List<Integer> boardNumbers = new ArrayList<>();
+        while (!heap.isEmpty()) boardNumbers.add(heap.poll().boardNumber);
+        Collections.reverse(boardNumbers);
+
+        try {
+            Map<Integer, GetBoardListResultSet> boardMap = new HashMap<>();
+            if (!boardNumbers.isEmpty()) {
+                for (GetBoardListResultSet resultSet : boardListRepository.getBoardList(boardNumbers))
+                    boardMap.put(resultSet.getBoardNumber(), resultSet);
+            }
+
+            List<GetBoardListResultSet> ranked = new ArrayList<>();
+            for (Integer boardNumber : boardNumbers) {
+                GetBoardListResultSet entity = boardMap.get(boardNumber);
+                if (entity != null) ranked.add(entity);
+            }
+
+            top3 = Collections.unmodifiableList(ranked);
+        } catch (Exception e) {
+            e.printStackTrace();
+            dirty = true;
+        }
+    }
+
+    private static String windowStart() {
+        return LocalDateTime.now().minusDays(WINDOW_DAYS).format(DATETIME_FORMATTER);
+    }
+
+    // 점수 맵에 대한 증감 (반영되어 순위가 바뀔 수 있으면 true)
+    private interface Change {
+        boolean applyTo(Map<Integer, RankingEntry> target);
+    }
+
+    private static class RankingEntry {
+
+        private final int boardNumber;
+        private final String writeDatetime;
+        private final AtomicInteger favoriteCount;
+        private final AtomicInteger commentCount;
+        private final AtomicLong viewCount;
+
+        private RankingEntry(int boardNumber, String writeDatetime, int favoriteCount, int commentCount, long viewCount) {
+            this.boardNumber = boardNumber;
+            this.writeDatetime = writeDatetime;
+            this.favoriteCount = new AtomicInteger(favoriteCount);
+            this.commentCount = new AtomicInteger(commentCount);
+            this.viewCount = new AtomicLong(viewCount);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package board.ranking;
+
+import board.event.BoardDeletedEvent;
+import board.event.BoardPatchedEvent;
+import board.event.BoardPostedEvent;
+import board.event.CommentPostedEvent;
+import board.event.DomainEvent;
+import board.event.DomainEventHandler;
+import board.event.FavoriteToggledEvent;
+import board.event.ViewRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 게시물/좋아요/댓글/조회 이벤트로 Top 3 점수 갱신
+// 점수 증감은 중복 전달 시 한 번 더 반영될 수 있으나 주기적인 DB 대조(reconcile)로 보정됨
+@Component
+@RequiredArgsConstructor
+public class Top3BoardRankingEventHandler implements DomainEventHandler {
+
+    private final Top3BoardRanking top3BoardRanking;
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof BoardPostedEvent posted)
+                top3BoardRanking.onBoardPosted(posted.getBoardNumber(), posted.getWriteDatetime());
+            else if (event instanceof BoardPatchedEvent patched)
+                top3BoardRanking.onBoardPatched(patched.getBoardNumber());
+            else if (event instanceof BoardDeletedEvent deleted)
+                top3BoardRanking.onBoardDeleted(deleted.getBoardNumber());
+            else if (event instanceof FavoriteToggledEvent toggled)
+                top3BoardRanking.onFavorite(toggled.getBoardNumber(), toggled.isFavorite() ? 1 : -1);
+            else if (event instanceof CommentPostedEvent commented)
+                top3BoardRanking.onComment(commented.getBoardNumber());
+            else if (event instanceof ViewRecordedEvent viewed && viewed.getViewCounts() != null)
+                viewed.getViewCounts().forEach(top3BoardRanking::onView);
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package board.repository;
+
+import board.entity.BoardListEntity;
+import board.repository.resultSet.GetBoardListResultSet;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardListRepository extends JpaRepository<BoardListEntity, Integer> {
+
+    // 목록에는 본문 전체 대신 앞부분만 저장 (태그/URL 제거 후 미리보기 길이를 채울 만큼)
+    int CONTENT_PREVIEW_LENGTH = 1000;
+
+    String LIST_COLUMNS =
+        "B.board_number AS boardNumber, " +
+        "B.title AS title, " +
+        "B.content AS content, " +
+        "B.title_image AS titleImage, " +
+        "B.favorite_count AS favoriteCount, " +
+        "B.comment_count AS commentCount, " +
+        "B.view_count AS viewCount, " +
+        "B.write_datetime AS writeDatetime, " +
+        "B.writer_email AS writerEmail, " +
+        "B.writer_nickname AS writerNickname, " +
+        "B.writer_profile_image AS writerProfileImage ";
+
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?1",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getLatestList(int limit);
+
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "WHERE B.write_datetime < ?1 " +
+        "OR (B.write_datetime = ?1 AND B.board_number < ?2) " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?3",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getLatestListAfter(String writeDatetime, Integer boardNumber, int limit);
+
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "WHERE B.write_datetime > ?1 " +
+        "ORDER BY B.favorite_count DESC, B.comment_count DESC, B.view_count DESC, B.write_datetime DESC " +
+        "LIMIT 3",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getTop3List(String writeDatetime);
+
+    // boardNumbers 가 비어 있으면 호출하지 않아야 함 (IN () 은 SQL 오류)
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "WHERE B.board_number IN (?1)",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getBoardList(Collection<Integer> boardNumbers);
+
+    // 사용자 존재 확인을 함께 처리: 사용자가 없으면 0 행, 게시물이 없으면 boardNumber 가 null 인 1 행
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM user AS U " +
+        "LEFT JOIN board_list AS B " +
+        "ON B.writer_email = U.email " +
+        "WHERE U.email = ?1 " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getUserBoardList(String writerEmail, int limit);
+
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM user AS U " +
+        "LEFT JOIN board_list AS B " +
+        "ON B.writer_email = U.email " +
+        "AND (B.write_datetime < ?2 OR (B.write_datetime = ?2 AND B.board_number < ?3)) " +
+        "WHERE U.email = ?1 " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?4",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getUserBoardListAfter(String writerEmail, String writeDatetime, Integer boardNumber, int limit);
+
+    // 작성자 게시물 전체 수 (board_list_writer_idx 범위 조회, 삭제된 게시물은 목록 행이 바로 지워지므로 제외됨)
+    @Query(
+        value =
+        "SELECT COUNT(*) " +
+        "FROM board_list " +
+        "WHERE writer_email = ?1",
+        nativeQuery = true
+    )
+    int countUserBoardList(String writerEmail);
+
+    // 검색 색인 적재 전 대체 검색: 미리 정규화된 board.search_text 에서 부분 일치
+    // FULLTEXT(ngram) 색인으로 후보를 찾고 LIKE 로 검색어가 그대로 포함되는지 확인
+    // includeUnindexed 이면 search_text 채우기가 끝나지 않은 게시물(NULL)도 기존 title/content 조건으로 포함
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "WHERE B.board_number IN (" +
+            "SELECT board_number FROM board " +
+            "WHERE MATCH(search_text) AGAINST(?1 IN BOOLEAN MODE) " +
+            "AND search_text LIKE CONCAT('%', ?2, '%') " +
+            "UNION ALL " +
+            "SELECT board_number FROM board " +
+            "WHERE ?4 AND search_text IS NULL " +
+            "AND (title LIKE CONCAT('%', ?3, '%') OR content LIKE CONCAT('%', ?3, '%'))" +
+        ") " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?5 OFFSET ?6",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getSearchList(String fullTextKeyword, String keyword, String unindexedKeyword, boolean includeUnindexed, int limit, int offset);
+
+    @Query(
+        value =
+        "SELECT COUNT(*) " +
+        "FROM board_list AS B " +
+        "WHERE B.board_number IN (" +
+            "SELECT board_number FROM board " +
+            "WHERE MATCH(search_text) AGAINST(?1 IN BOOLEAN MODE) " +
+            "AND search_text LIKE CONCAT('%', ?2, '%') " +
+            "UNION ALL " +
+            "SELECT board_number FROM board " +
+            "WHERE ?4 AND search_text IS NULL " +
+            "AND (title LIKE CONCAT('%', ?3, '%') OR content LIKE CONCAT('%', ?3, '%'))" +
+        ")",
+        nativeQuery = true
+    )
+    int countSearchList(String fullTextKeyword, String keyword, String unindexedKeyword, boolean includeUnindexed);
+
+    // 한 글자 단어가 있어 ngram(2) 색인으로 찾을 수 없는 검색어: search_text 전체 LIKE (전체 스캔)
+    @Query(
+        value =
+        "SELECT " + LIST_COLUMNS +
+        "FROM board_list AS B " +
+        "WHERE B.board_number IN (" +
+            "SELECT board_number FROM board " +
+            "WHERE search_text LIKE CONCAT('%', ?1, '%') " +
+            "UNION ALL " +
+            "SELECT board_number FROM board " +
+            "WHERE ?3 AND search_text IS NULL " +
+            "AND (title LIKE CONCAT('%', ?2, '%') OR content LIKE CONCAT('%', ?2, '%'))" +
+        ") " +
+        "ORDER BY B.write_datetime DESC, B.board_number DESC " +
+        "LIMIT ?4 OFFSET ?5",
+        nativeQuery = true
+    )
+    List<GetBoardListResultSet> getSearchListByLike(String keyword, String unindexedKeyword, boolean includeUnindexed, int limit, int offset);
+
+    @Query(
+        value =
+        "SELECT COUNT(*) " +
+        "FROM board_list AS B " +
+        "WHERE B.board_number IN (" +
+            "SELECT board_number FROM board " +
+            "WHERE search_text LIKE CONCAT('%', ?1, '%') " +
+            "UNION ALL " +
+            "SELECT board_number FROM board " +
+            "WHERE ?3 AND search_text IS NULL " +
+            "AND (title LIKE CONCAT('%', ?2, '%') OR content LIKE CONCAT('%', ?2, '%'))" +
+        ")",
+        nativeQuery = true
+    )
+    int countSearchListByLike(String keyword, String unindexedKeyword, boolean includeUnindexed);
+
+    // 이하 board_list 유지 (게시물/사용자/카운터 변경과 같은 트랜잭션에서 호출)
+
+    String INSERT_COLUMNS =
+        "INSERT INTO board_list (" +
+        "board_number, title, content, title_image, favorite_count, comment_count, view_count, " +
+        "write_datetime, writer_email, writer_nickname, writer_profile_image" +
+        ") ";
+
+    // 대표 이미지는 순서가 가장 빠른 이미지
+    String SELECT_FROM_BOARD =
+        "SELECT " +
+        "B.board_number, B.title, SUBSTRING(B.content, 1, " + CONTENT_PREVIEW_LENGTH + "), " +
+        "(SELECT I.image FROM image AS I WHERE I.board_number = B.board_number ORDER BY I.sequence ASC LIMIT 1), " +
+        "B.favorite_count, B.comment_count, B.view_count, " +
+        "B.write_datetime, B.writer_email, U.nickname, U.profile_image " +
+        "FROM board AS B " +
+        "INNER JOIN user AS U " +
+        "ON B.writer_email = U.email ";
+
+    // 게시물 작성/수정 후 해당 행을 board 기준으로 다시 만듦
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        INSERT_COLUMNS +
+        SELECT_FROM_BOARD +
+        "WHERE B.board_number = ?1 " +
+        "ON DUPLICATE KEY UPDATE " +
+        "title = VALUES(title), " +
+        "content = VALUES(content), " +
+        "title_image = VALUES(title_image), " +
+        "favorite_count = VALUES(favorite_count), " +
+        "comment_count = VALUES(comment_count), " +
+        "view_count = VALUES(view_count), " +
+        "writer_nickname = VALUES(writer_nickname), " +
+        "writer_profile_image = VALUES(writer_profile_image)",
+        nativeQuery = true
+    )
+    int refresh(Integer boardNumber);
+
+    // board_list 에 없는 게시물을 번호 순으로 limit 건 채움 (시작 시 적재용)
+    // 여러 인스턴스가 동시에 기동하면 같은 행을 넣을 수 있으므로 중복은 무시하되,
+    // 일치한 행도 처리 건수에 포함되도록(found rows) 같은 값으로 갱신하여 호출 측의 반복 조건이 유지되게 함
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        INSERT_COLUMNS +
+        SELECT_FROM_BOARD +
+        "LEFT JOIN board_list AS L " +
+        "ON L.board_number = B.board_number " +
+        "WHERE L.board_number IS NULL " +
+        "ORDER BY B.board_number ASC " +
+        "LIMIT ?1 " +
+        "ON DUPLICATE KEY UPDATE " +
+        "writer_nickname = VALUES(writer_nickname)",
+        nativeQuery = true
+    )
+    int insertMissing(int limit);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE L FROM board_list AS L " +
+        "LEFT JOIN board AS B " +
+        "ON B.board_number = L.board_number " +
+        "WHERE B.board_number IS NULL",
+        nativeQuery = true
+    )
+    int deleteOrphans();
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM board_list " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board_list " +
+        "SET writer_nickname = ?2, writer_profile_image = ?3 " +
+        "WHERE writer_email = ?1",
+        nativeQuery = true
+    )
+    int updateWriter(String writerEmail, String writerNickname, String writerProfileImage);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board_list " +
+        "SET favorite_count = favorite_count + 1 " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int increaseFavoriteCount(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board_list " +
+        "SET favorite_count = favorite_count - 1 " +
+        "WHERE board_number = ?1 " +
+        "AND favorite_count > 0",
+        nativeQuery = true
+    )
+    int decreaseFavoriteCount(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board_list " +
+        "SET comment_count = comment_count + 1 " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int increaseCommentCount(Integer boardNumber);
+
+}
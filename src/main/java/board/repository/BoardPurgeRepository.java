@@ -0,0 +1,27 @@
+package board.repository;
+
+import board.entity.BoardPurgeEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BoardPurgeRepository extends JpaRepository<BoardPurgeEntity, Integer> {
+
+    List<BoardPurgeEntity> findAllByOrderByRequestDatetimeAsc();
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "INSERT IGNORE INTO board_purge (board_number, request_datetime) " +
+        "VALUES (?1, ?2)",
+        nativeQuery = true
+    )
+    int insertIfAbsent(Integer boardNumber, String requestDatetime);
+
+}
@@ -1,15 +1,19 @@
 package board.repository;
 
 import board.entity.BoardEntity;
+import board.repository.resultSet.GetBoardRankingResultSet;
 import board.repository.resultSet.GetBoardResultSet;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BoardRepository extends JpaRepository<BoardEntity, Integer> {
 
-    BoardEntity findByBoardNumber(Integer boardNumber);
     boolean existsByBoardNumber(Integer boardNumber);
 
     @Query(
@@ -30,4 +34,112 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Integer> {
     )
     GetBoardResultSet getBoard(Integer boardNumber);
 
+    @Query(
+        value =
+        "SELECT " +
+        "board_number AS boardNumber, " +
+        "write_datetime AS writeDatetime, " +
+        "favorite_count AS favoriteCount, " +
+        "comment_count AS commentCount, " +
+        "view_count AS viewCount " +
+        "FROM board " +
+        "WHERE write_datetime > ?1 ",
+        nativeQuery = true
+    )
+    List<GetBoardRankingResultSet> getRankingList(String writeDatetime);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board " +
+        "SET favorite_count = favorite_count + 1 " +
+        "WHERE board_number = ?1 ",
+        nativeQuery = true
+    )
+    int increaseFavoriteCount(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board " +
+        "SET favorite_count = favorite_count - 1 " +
+        "WHERE board_number = ?1 " +
+        "AND favorite_count > 0 ",
+        nativeQuery = true
+    )
+    int decreaseFavoriteCount(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board " +
+        "SET comment_count = comment_count + 1 " +
+        "WHERE board_number = ?1 ",
+        nativeQuery = true
+    )
+    int increaseCommentCount(Integer boardNumber);
+
+    @Query(
+        value =
+        "SELECT writer_email " +
+        "FROM board " +
+        "WHERE board_number = ?1 ",
+        nativeQuery = true
+    )
+    String getWriterEmail(Integer boardNumber);
+
+    // 작성자 확인과 수정을 한 번에 처리 (0 이면 게시물이 없거나 작성자가 아님)
+    // MySQL Connector/J 기본 설정에서는 값이 같아도 조건에 일치한 행 수를 반환
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board " +
+        "SET title = ?3, content = ?4, search_text = ?5 " +
+        "WHERE board_number = ?1 " +
+        "AND writer_email = ?2 ",
+        nativeQuery = true
+    )
+    int patchBoard(Integer boardNumber, String writerEmail, String title, String content, String searchText);
+
+    // 검색 색인의 본문 후보 중 검색어를 그대로 포함하는 게시물 (search_text 가 아직 없으면 원문 LIKE)
+    // 제목 일치는 색인에서 먼저 걸러지므로 search_text(제목 + 줄바꿈 + 본문) 전체를 비교해도 본문 일치만 남음
+    @Query(
+        value =
+        "SELECT board_number " +
+        "FROM board " +
+        "WHERE board_number IN (?1) " +
+        "AND (search_text LIKE CONCAT('%', ?2, '%') " +
+        "OR (search_text IS NULL AND content LIKE CONCAT('%', ?3, '%')))",
+        nativeQuery = true
+    )
+    List<Integer> getContentMatchList(List<Integer> boardNumbers, String keyword, String unindexedKeyword);
+
+    // search_text 도입 이전 게시물 채우기용
+    List<BoardEntity> findTop500BySearchTextIsNullOrderByBoardNumberAsc();
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE board " +
+        "SET search_text = ?2 " +
+        "WHERE board_number = ?1 ",
+        nativeQuery = true
+    )
+    int updateSearchText(Integer boardNumber, String searchText);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM board " +
+        "WHERE board_number = ?1 ",
+        nativeQuery = true
+    )
+    int deleteBoard(Integer boardNumber);
+
 }
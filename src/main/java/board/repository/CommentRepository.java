@@ -4,6 +4,7 @@ import board.entity.CommentEntity;
 import board.repository.resultSet.GetCommentListResultSet;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,22 +13,78 @@ import java.util.List;
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Integer> {
 
-    @Query(
-        value =
-        "SELECT " +
+    // 게시물 기준 LEFT JOIN 으로 존재 확인을 함께 처리: 게시물이 없으면 0 행, 해당 댓글이 없으면 commentNumber 가 null 인 1 행
+    // 모든 행에 게시물의 전체 댓글 수(board.comment_count)를 함께 조회
+    String COMMENT_COLUMNS =
+        "B.comment_count AS commentCount, " +
+        "C.comment_number AS commentNumber, " +
         "U.nickname AS nickname, " +
         "U.profile_image AS profileImage, " +
         "C.write_datetime AS writeDatetime, " +
-        "C.content AS content " +
-        "FROM comment AS C " +
-        "INNER JOIN user AS U " +
-        "ON C.user_email = U.email " +
-        "WHERE C.board_number = ?1 " +
-        "ORDER BY C.write_datetime DESC",
+        "C.content AS content ";
+
+    @Query(
+        value =
+        "SELECT " + COMMENT_COLUMNS +
+        "FROM board AS B " +
+        "LEFT JOIN (comment AS C INNER JOIN user AS U ON C.user_email = U.email) " +
+        "ON C.board_number = B.board_number " +
+        "WHERE B.board_number = ?1 " +
+        "ORDER BY C.write_datetime DESC, C.comment_number DESC " +
+        "LIMIT ?2",
         nativeQuery = true
     )
-    List<GetCommentListResultSet> getCommentList(Integer boardNumber);
+    List<GetCommentListResultSet> getCommentList(Integer boardNumber, int limit);
+
+    @Query(
+        value =
+        "SELECT " + COMMENT_COLUMNS +
+        "FROM board AS B " +
+        "LEFT JOIN (comment AS C INNER JOIN user AS U ON C.user_email = U.email) " +
+        "ON C.board_number = B.board_number " +
+        "AND (C.write_datetime < ?2 OR (C.write_datetime = ?2 AND C.comment_number < ?3)) " +
+        "WHERE B.board_number = ?1 " +
+        "ORDER BY C.write_datetime DESC, C.comment_number DESC " +
+        "LIMIT ?4",
+        nativeQuery = true
+    )
+    List<GetCommentListResultSet> getCommentListAfter(Integer boardNumber, String writeDatetime, Integer commentNumber, int limit);
+
+    // 커서 이후 새 댓글 (오래된 순)
+    // 번호가 작성 순서와 일치하지 않을 수 있어(여러 인스턴스의 번호 블록) 같은 초의 댓글은 다시 포함하며, 클라이언트가 commentNumber 로 중복 제거
+    @Query(
+        value =
+        "SELECT " + COMMENT_COLUMNS +
+        "FROM board AS B " +
+        "LEFT JOIN (comment AS C INNER JOIN user AS U ON C.user_email = U.email) " +
+        "ON C.board_number = B.board_number " +
+        "AND C.write_datetime >= ?2 " +
+        "AND C.comment_number <> ?3 " +
+        "WHERE B.board_number = ?1 " +
+        "ORDER BY C.write_datetime ASC, C.comment_number ASC " +
+        "LIMIT ?4",
+        nativeQuery = true
+    )
+    List<GetCommentListResultSet> getCommentListSince(Integer boardNumber, String writeDatetime, Integer commentNumber, int limit);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `comment` " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber);
 
     @Transactional
-    void deleteByBoardNumber(Integer boardNumber);
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `comment` " +
+        "WHERE board_number = ?1 " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber, int limit);
 }
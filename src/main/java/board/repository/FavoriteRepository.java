@@ -5,6 +5,7 @@ import board.entity.primaryKey.FavoritePk;
 import board.repository.resultSet.GetFavoriteListResultSet;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +13,74 @@ import java.util.List;
 
 @Repository
 public interface FavoriteRepository extends JpaRepository<FavoriteEntity, FavoritePk> {
-    FavoriteEntity findByBoardNumberAndUserEmail(Integer boardNumber, String userEmail);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "INSERT IGNORE INTO `favorite` (user_email, board_number) " +
+        "VALUES (?1, ?2)",
+        nativeQuery = true
+    )
+    int insertIfAbsent(String userEmail, Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `favorite` " +
+        "WHERE user_email = ?1 " +
+        "AND board_number = ?2",
+        nativeQuery = true
+    )
+    int deleteIfPresent(String userEmail, Integer boardNumber);
+
+    // 좋아요 토글: 없으면 추가(true), 이미 있으면 삭제(false)
+    // 추가도 삭제도 되지 않으면(게시물 외래키 위반이 INSERT IGNORE 로 무시된 경우) null
+    @Transactional
+    default Boolean toggle(FavoritePk favoritePk) {
+        String userEmail = favoritePk.getUserEmail();
+        int boardNumber = favoritePk.getBoardNumber();
+
+        int inserted = insertIfAbsent(userEmail, boardNumber);
+        if (inserted > 0)
+            return true;
+
+        int deleted = deleteIfPresent(userEmail, boardNumber);
+        if (deleted > 0)
+            return false;
+
+        return null;
+    }
+
+    // 좋아요 요약 적재용: 게시물이 없으면 0 행, 좋아요가 없으면 null 1 행
+    @Query(
+        value =
+        "SELECT F.user_email " +
+        "FROM `board` AS B " +
+        "LEFT JOIN `favorite` AS F " +
+        "ON F.board_number = B.board_number " +
+        "WHERE B.board_number = ?1",
+        nativeQuery = true
+    )
+    List<String> getFavoriterEmailList(Integer boardNumber);
+
+    // 게시물 기준 LEFT JOIN 으로 존재 확인을 함께 처리: 게시물이 없으면 0 행, 좋아요가 없으면 email 이 null 인 1 행
+    @Query(
+        value =
+        "SELECT " +
+        "U.email AS email, " +
+        "U.nickname AS nickname, " +
+        "U.profile_image AS profileImage " +
+        "FROM `board` AS B " +
+        "LEFT JOIN (`favorite` AS F INNER JOIN `user` AS U ON F.user_email = U.email) " +
+        "ON F.board_number = B.board_number " +
+        "WHERE B.board_number = ?1 " +
+        "ORDER BY F.user_email ASC " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    List<GetFavoriteListResultSet> getFavoriteList(Integer boardNumber, int limit);
 
     @Query(
         value =
@@ -20,14 +88,35 @@ public interface FavoriteRepository extends JpaRepository<FavoriteEntity, Favori
         "U.email AS email, " +
         "U.nickname AS nickname, " +
         "U.profile_image AS profileImage " +
-        "FROM `favorite` AS F " +
-        "INNER JOIN `user` AS U " +
-        "ON F.user_email = U.email " +
-        "WHERE F.board_number = ?1",
+        "FROM `board` AS B " +
+        "LEFT JOIN (`favorite` AS F INNER JOIN `user` AS U ON F.user_email = U.email) " +
+        "ON F.board_number = B.board_number " +
+        "AND F.user_email > ?2 " +
+        "WHERE B.board_number = ?1 " +
+        "ORDER BY F.user_email ASC " +
+        "LIMIT ?3",
         nativeQuery = true
     )
-    List<GetFavoriteListResultSet> getFavoriteList(Integer boardNumber);
+    List<GetFavoriteListResultSet> getFavoriteListAfter(Integer boardNumber, String userEmail, int limit);
 
     @Transactional
-    void deleteByBoardNumber(Integer boardNumber);
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `favorite` " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `favorite` " +
+        "WHERE board_number = ?1 " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber, int limit);
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package board.repository;
 import board.entity.ImageEntity;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +12,15 @@ import java.util.List;
 @Repository
 public interface ImageRepository extends JpaRepository<ImageEntity, Integer> {
     List<ImageEntity> findByBoardNumber(Integer boardNumber);
+    List<ImageEntity> findByBoardNumberOrderBySequenceAsc(Integer boardNumber);
 
     @Transactional
-    void deleteByBoardNumber(Integer boardNumber);
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `image` " +
+        "WHERE board_number = ?1",
+        nativeQuery = true
+    )
+    int deleteByBoardNumber(Integer boardNumber);
 }
@@ -0,0 +1,56 @@
+package board.repository;
+
+import board.entity.SearchWordCountEntity;
+import board.entity.primaryKey.SearchWordCountPk;
+import board.repository.resultSet.GetPopularListResultSet;
+import board.repository.resultSet.GetRelationListResultSet;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SearchWordCountRepository extends JpaRepository<SearchWordCountEntity, SearchWordCountPk> {
+
+    // 최근 구간 인기 검색어 (relation_word 가 빈 문자열인 행 합산)
+    @Query(
+        value =
+        "SELECT search_word AS searchWord, CAST(SUM(search_count) AS SIGNED) AS count " +
+        "FROM `search_word_count` " +
+        "WHERE relation_word = '' " +
+        "AND bucket_hour >= ?1 " +
+        "GROUP BY search_word " +
+        "ORDER BY count DESC " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    List<GetPopularListResultSet> getPopularList(String windowStart, int limit);
+
+    // 최근 구간 연관 검색어
+    @Query(
+        value =
+        "SELECT relation_word AS searchWord, CAST(SUM(search_count) AS SIGNED) AS count " +
+        "FROM `search_word_count` " +
+        "WHERE search_word = ?1 " +
+        "AND bucket_hour >= ?2 " +
+        "AND relation_word <> '' " +
+        "GROUP BY relation_word " +
+        "ORDER BY count DESC " +
+        "LIMIT ?3",
+        nativeQuery = true
+    )
+    List<GetRelationListResultSet> getRelationList(String searchWord, String windowStart, int limit);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM `search_word_count` " +
+        "WHERE bucket_hour < ?1",
+        nativeQuery = true
+    )
+    int deleteBefore(String bucketHour);
+}
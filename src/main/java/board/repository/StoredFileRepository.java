@@ -0,0 +1,86 @@
+package board.repository;
+
+import board.entity.StoredFileEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFileEntity, String> {
+
+    // 업로드 시 등록 (이미 있으면 정리 유예 시간만 갱신)
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "INSERT INTO stored_file (file_name, reference_count, update_datetime) " +
+        "VALUES (?1, 0, ?2) " +
+        "ON DUPLICATE KEY UPDATE update_datetime = VALUES(update_datetime)",
+        nativeQuery = true
+    )
+    int touch(String fileName, String updateDatetime);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE stored_file " +
+        "SET reference_count = reference_count + ?2, update_datetime = ?3 " +
+        "WHERE file_name = ?1",
+        nativeQuery = true
+    )
+    int increaseReferenceCount(String fileName, int count, String updateDatetime);
+
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "UPDATE stored_file " +
+        "SET reference_count = GREATEST(reference_count - ?2, 0), update_datetime = ?3 " +
+        "WHERE file_name = ?1",
+        nativeQuery = true
+    )
+    int decreaseReferenceCount(String fileName, int count, String updateDatetime);
+
+    @Query(
+        value =
+        "SELECT file_name " +
+        "FROM stored_file " +
+        "WHERE reference_count = 0 " +
+        "AND update_datetime < ?1 " +
+        "LIMIT ?2",
+        nativeQuery = true
+    )
+    List<String> getOrphanList(String updateDatetime, int limit);
+
+    // 정리 대상인지 다시 확인하면서 행 잠금 (트랜잭션 안에서 호출)
+    // 잠금을 쥔 동안 다른 인스턴스의 touch/참조 변경은 커밋까지 대기하므로, 파일 삭제와 재업로드가 겹치지 않음
+    @Query(
+        value =
+        "SELECT file_name " +
+        "FROM stored_file " +
+        "WHERE file_name = ?1 " +
+        "AND reference_count = 0 " +
+        "AND update_datetime < ?2 " +
+        "FOR UPDATE",
+        nativeQuery = true
+    )
+    List<String> lockOrphan(String fileName, String updateDatetime);
+
+    // 조회 이후 다시 참조되거나 재업로드된 파일은 삭제하지 않음
+    @Transactional
+    @Modifying
+    @Query(
+        value =
+        "DELETE FROM stored_file " +
+        "WHERE file_name = ?1 " +
+        "AND reference_count = 0 " +
+        "AND update_datetime < ?2",
+        nativeQuery = true
+    )
+    int deleteOrphan(String fileName, String updateDatetime);
+}
@@ -0,0 +1,16 @@
+package board.repository.resultSet;
+
+// 게시물 목록 한 행 (content 는 본문 앞부분만)
+public interface GetBoardListResultSet {
+    Integer getBoardNumber();
+    String getTitle();
+    String getContent();
+    String getTitleImage();
+    Integer getFavoriteCount();
+    Integer getCommentCount();
+    Integer getViewCount();
+    String getWriteDatetime();
+    String getWriterEmail();
+    String getWriterNickname();
+    String getWriterProfileImage();
+}
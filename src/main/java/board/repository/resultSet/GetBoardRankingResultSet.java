@@ -0,0 +1,9 @@
+package board.repository.resultSet;
+
+public interface GetBoardRankingResultSet {
+    Integer getBoardNumber();
+    String getWriteDatetime();
+    Integer getFavoriteCount();
+    Integer getCommentCount();
+    Integer getViewCount();
+}
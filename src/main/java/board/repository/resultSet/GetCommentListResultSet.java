@@ -1,6 +1,8 @@
 package board.repository.resultSet;
 
 public interface GetCommentListResultSet {
+    Integer getCommentCount();
+    Integer getCommentNumber();
     String getNickname();
     String getProfileImage();
     String getWriteDatetime();
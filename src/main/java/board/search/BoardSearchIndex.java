@@ -0,0 +1,298 @@
+package board.search;
+
+import board.config.BackgroundThreadFactory;
+import board.entity.BoardEntity;
+import board.repository.BoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게시물 제목/본문 n-gram 역색인 (메모리)
+// n-gram 교집합은 후보일 뿐이므로 검색어가 그대로 포함되는지 확인 (기존 title/content LIKE '%검색어%' 와 같은 결과)
+// 제목은 정규화된 문자열을 보관하여 메모리에서 확인하고, 본문은 보관하지 않고 요청한 페이지를 채울 만큼의 후보만
+// board.search_text LIKE 로 확인 (검색어가 n-gram 하나와 같으면 후보가 곧 일치이므로 확인 생략)
+// 게시물 번호는 인스턴스별로 미리 할당받은 구간에서 발급되어 작성 순서와 다를 수 있으므로 최신순은 작성일시 기준
+// 게시물 작성/수정/삭제 시 증분 갱신되며, 기동 직후 적재가 끝나기 전까지는 isReady() 가 false
+//
+// 메모리는 (게시물, 서로 다른 n-gram) 쌍마다 posting 항목 하나(약 50 byte)가 대부분이며
+// board.search.index.postings 게이지로 노출 (본문 2,000 자 게시물 약 1,000 ~ 3,000 항목)
+// 게시물 10 만 건 규모까지를 대상으로 하며, 그 이상이면 힙을 늘리거나 DB 검색 경로(FULLTEXT)만 사용
+@Component
+public class BoardSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int VERIFY_CHUNK_SIZE = 200;
+    private static final int LOCK_STRIPES = 64;
+    // 작성일시 최신순, 같은 초에 작성된 게시물은 번호 역순
+    private static final Comparator<Match> LATEST_FIRST = Comparator
+        .comparing((Match match) -> match.writeDatetime)
+        .thenComparingInt(match -> match.boardNumber)
+        .reversed();
+
+    private final BoardRepository boardRepository;
+    private final BackgroundThreadFactory backgroundThreadFactory;
+
+    // term -> boardNumber 목록
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    // boardNumber -> 정규화된 제목, 작성일시, 색인된 term 목록 (제목 일치 확인, 정렬, 수정/삭제 시 제거용)
+    private final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+    // posting 항목 수 (메모리 사용량 지표)
+    private final AtomicLong postingEntries = new AtomicLong();
+    // 초기 적재 중 실시간으로 갱신된 게시물 (적재 스레드가 덮어쓰지 않도록)
+    private final Set<Integer> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+    // 같은 게시물의 적재/갱신/삭제가 겹치지 않도록 게시물 번호로 나눈 잠금
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private volatile boolean loading = false;
+    private volatile boolean ready = false;
+
+    public BoardSearchIndex(
+        BoardRepository boardRepository,
+        BackgroundThreadFactory backgroundThreadFactory,
+        MeterRegistry meterRegistry
+    ) {
+        this.boardRepository = boardRepository;
+        this.backgroundThreadFactory = backgroundThreadFactory;
+
+        for (int i = 0; i < LOCK_STRIPES; i++)
+            locks[i] = new ReentrantLock();
+
+        Gauge.builder("board.search.index.documents", documents, Map::size).register(meterRegistry);
+        Gauge.builder("board.search.index.terms", postings, Map::size).register(meterRegistry);
+        Gauge.builder("board.search.index.postings", postingEntries, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loading = true;
+        backgroundThreadFactory.newThread("board-search-index-loader", this::loadAll).start();
+    }
+
+    private void loadAll() {
+        try {
+            int page = 0;
+            Page<BoardEntity> chunk;
+            do {
+                chunk = boardRepository.findAll(PageRequest.of(page++, LOAD_CHUNK_SIZE, Sort.by("boardNumber")));
+                for (BoardEntity boardEntity : chunk) {
+                    int boardNumber = boardEntity.getBoardNumber();
+                    ReentrantLock lock = lockOf(boardNumber);
+                    lock.lock();
+                    try {
+                        // 조회한 뒤 실시간으로 갱신/삭제된 게시물은 적재하지 않음
+                        if (touchedWhileLoading.contains(boardNumber)) continue;
+                        put(boardNumber, boardEntity.getTitle(), boardEntity.getContent(), boardEntity.getWriteDatetime());
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            } while (chunk.hasNext());
+
+            ready = true;
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            loading = false;
+            touchedWhileLoading.clear();
+        }
+    }
+
+    public void index(BoardEntity boardEntity) {
+        int boardNumber = boardEntity.getBoardNumber();
+        ReentrantLock lock = lockOf(boardNumber);
+        lock.lock();
+        try {
+            if (loading) touchedWhileLoading.add(boardNumber);
+            put(boardNumber, boardEntity.getTitle(), boardEntity.getContent(), boardEntity.getWriteDatetime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Integer boardNumber) {
+        ReentrantLock lock = lockOf(boardNumber);
+        lock.lock();
+        try {
+            if (loading) touchedWhileLoading.add(boardNumber);
+            removeDocument(boardNumber);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 검색어를 포함하는 게시물을 제목 일치 우선 -> 최신순으로 정렬하여 offset 부터 limit 건 반환
+    // 본문 후보를 모두 확인하지 않은 경우 전체 건수는 확인하지 않은 후보를 포함한 값 (실제보다 클 수 있음)
+    public SearchResult search(String searchWord, int offset, int limit) {
+        String phrase = SearchTextNormalizer.toSearchText(searchWord);
+        Set<String> queryTerms = SearchTextNormalizer.queryTerms(phrase);
+        if (queryTerms.isEmpty()) return SearchResult.EMPTY;
+
+        List<Set<Integer>> queryPostings = new ArrayList<>();
+        for (String term : queryTerms) {
+            Set<Integer> posting = postings.get(term);
+            if (posting == null) return SearchResult.EMPTY;
+            queryPostings.add(posting);
+        }
+        queryPostings.sort(Comparator.comparingInt(Set::size));
+
+        List<Match> titleMatches = new ArrayList<>();
+        List<Match> contentCandidates = new ArrayList<>();
+        candidates:
+        for (Integer boardNumber : queryPostings.get(0)) {
+            for (int i = 1; i < queryPostings.size(); i++) {
+                if (!queryPostings.get(i).contains(boardNumber)) continue candidates;
+            }
+
+            Document document = documents.get(boardNumber);
+            if (document == null) continue;
+            Match match = new Match(boardNumber, document.writeDatetime == null ? "" : document.writeDatetime);
+            if (document.title.contains(phrase)) titleMatches.add(match);
+            else contentCandidates.add(match);
+        }
+
+        titleMatches.sort(LATEST_FIRST);
+        contentCandidates.sort(LATEST_FIRST);
+
+        // n-gram 이 떨어져 있는 후보를 제외하되, 다음 페이지가 있는지 알 수 있도록 한 건 더 확인
+        boolean exact = queryTerms.size() == 1 && queryTerms.contains(phrase);
+        int needed = offset + limit + 1 - titleMatches.size();
+        List<Match> contentMatches = contentCandidates;
+        int unverified = 0;
+        if (!exact) {
+            ContentMatches verified = verifyContent(searchWord, contentCandidates, needed);
+            contentMatches = verified.matches;
+            unverified = verified.unverified;
+        }
+
+        List<Match> ranked = new ArrayList<>(titleMatches.size() + contentMatches.size());
+        ranked.addAll(titleMatches);
+        ranked.addAll(contentMatches);
+
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        List<Integer> boardNumbers = new ArrayList<>(to - from);
+        for (Match match : ranked.subList(from, to)) boardNumbers.add(match.boardNumber);
+        return new SearchResult(boardNumbers, ranked.size() + unverified);
+    }
+
+    // 본문 후보를 순서대로 VERIFY_CHUNK_SIZE 건씩 DB 에서 확인하여 needed 건을 채우면 중단
+    private ContentMatches verifyContent(String searchWord, List<Match> candidates, int needed) {
+        String keyword = SearchTextNormalizer.likeKeyword(searchWord);
+        String unindexedKeyword = SearchTextNormalizer.escapeLike(searchWord);
+
+        List<Match> matches = new ArrayList<>();
+        int checked = 0;
+        while (checked < candidates.size() && matches.size() < needed) {
+            List<Match> chunk = candidates.subList(checked, Math.min(checked + VERIFY_CHUNK_SIZE, candidates.size()));
+            List<Integer> boardNumbers = new ArrayList<>(chunk.size());
+            for (Match match : chunk) boardNumbers.add(match.boardNumber);
+
+            Set<Integer> matched = new HashSet<>(boardRepository.getContentMatchList(boardNumbers, keyword, unindexedKeyword));
+            for (Match match : chunk) {
+                if (matched.contains(match.boardNumber)) matches.add(match);
+            }
+            checked += chunk.size();
+        }
+        return new ContentMatches(matches, candidates.size() - checked);
+    }
+
+    private void put(int boardNumber, String title, String content, String writeDatetime) {
+        String titleText = SearchTextNormalizer.toSearchText(title);
+
+        Set<String> terms = SearchTextNormalizer.tokenize(titleText);
+        terms.addAll(SearchTextNormalizer.tokenize(SearchTextNormalizer.toSearchText(content)));
+
+        removeDocument(boardNumber);
+        for (String term : terms) {
+            postings.compute(term, (key, posting) -> {
+                if (posting == null) posting = ConcurrentHashMap.newKeySet();
+                posting.add(boardNumber);
+                return posting;
+            });
+        }
+        postingEntries.addAndGet(terms.size());
+        documents.put(boardNumber, new Document(titleText, writeDatetime, Set.copyOf(terms)));
+    }
+
+    private void removeDocument(Integer boardNumber) {
+        Document document = documents.remove(boardNumber);
+        if (document == null) return;
+
+        for (String term : document.terms) {
+            postings.computeIfPresent(term, (key, posting) -> {
+                posting.remove(boardNumber);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+        postingEntries.addAndGet(-document.terms.size());
+    }
+
+    private ReentrantLock lockOf(int boardNumber) {
+        return locks[Math.floorMod(boardNumber, LOCK_STRIPES)];
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+
+        private static final SearchResult EMPTY = new SearchResult(Collections.emptyList(), 0);
+
+        private List<Integer> boardNumbers;
+        private int totalCount;
+    }
+
+    // 정렬 중 색인이 바뀌어도 비교 결과가 달라지지 않도록 일치 시점의 작성일시를 함께 보관
+    private static class Match {
+
+        private final int boardNumber;
+        private final String writeDatetime;
+
+        private Match(int boardNumber, String writeDatetime) {
+            this.boardNumber = boardNumber;
+            this.writeDatetime = writeDatetime;
+        }
+    }
+
+    private static class ContentMatches {
+
+        private final List<Match> matches;
+        // 확인하지 않은 후보 수
+        private final int unverified;
+
+        private ContentMatches(List<Match> matches, int unverified) {
+            this.matches = matches;
+            this.unverified = unverified;
+        }
+    }
+
+    private static class Document {
+
+        private final String title;
+        // yyyy-MM-dd HH:mm:ss 이므로 문자열 비교가 시간 순서와 같음
+        private final String writeDatetime;
+        private final Set<String> terms;
+
+        private Document(String title, String writeDatetime, Set<String> terms) {
+            this.title = title;
+            this.writeDatetime = writeDatetime;
+            this.terms = terms;
+        }
+    }
+
+}
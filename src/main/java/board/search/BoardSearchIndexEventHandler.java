@@ -0,0 +1,58 @@
+package board.search;
+
+import board.entity.BoardEntity;
+import board.event.BoardDeletedEvent;
+import board.event.BoardPatchedEvent;
+import board.event.BoardPostedEvent;
+import board.event.DomainEvent;
+import board.event.DomainEventHandler;
+import board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 게시물 작성/수정/삭제 이벤트로 검색 색인 갱신
+// 묶음 안에서 게시물별 마지막 이벤트만 반영하고, 색인할 게시물은 한 번에 조회한 현재 상태로 색인 (중복 전달되어도 결과가 같음)
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexEventHandler implements DomainEventHandler {
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardRepository boardRepository;
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        // 게시물 번호 -> 색인 여부 (false 면 제거)
+        Map<Integer, Boolean> changes = new HashMap<>();
+        for (DomainEvent event : events) {
+            if (event instanceof BoardPostedEvent posted)
+                changes.put(posted.getBoardNumber(), true);
+            else if (event instanceof BoardPatchedEvent patched)
+                changes.put(patched.getBoardNumber(), true);
+            else if (event instanceof BoardDeletedEvent deleted)
+                changes.put(deleted.getBoardNumber(), false);
+        }
+        if (changes.isEmpty()) return;
+
+        Set<Integer> indexTargets = new HashSet<>();
+        changes.forEach((boardNumber, index) -> {
+            if (index) indexTargets.add(boardNumber);
+            else boardSearchIndex.remove(boardNumber);
+        });
+        if (indexTargets.isEmpty()) return;
+
+        for (BoardEntity boardEntity : boardRepository.findAllById(indexTargets)) {
+            boardSearchIndex.index(boardEntity);
+            indexTargets.remove(boardEntity.getBoardNumber());
+        }
+        // 그 사이 삭제된 게시물
+        for (Integer boardNumber : indexTargets)
+            boardSearchIndex.remove(boardNumber);
+    }
+
+}
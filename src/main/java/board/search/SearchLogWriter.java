@@ -0,0 +1,166 @@
+package board.search;
+
+import board.config.BackgroundThreadFactory;
+import board.entity.SearchLogEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 검색 로그 비동기 적재
+// 요청 스레드는 제한된 큐에 넣기만 하고, 백그라운드 스레드가 모아서 multi-row INSERT 로 저장
+@Component
+public class SearchLogWriter {
+
+    public enum OverflowPolicy {
+        // 큐가 가득 차면 새 로그를 버림
+        DROP_NEWEST,
+        // 큐가 가득 차면 가장 오래된 로그를 버리고 새 로그를 넣음
+        DROP_OLDEST,
+        // offer-timeout-ms 동안 대기 후에도 자리가 없으면 버림
+        BLOCK
+    }
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchWordRollup searchWordRollup;
+    private final BackgroundThreadFactory backgroundThreadFactory;
+    private final BlockingQueue<SearchLogEntity> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMs;
+
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public SearchLogWriter(
+        JdbcTemplate jdbcTemplate,
+        SearchWordRollup searchWordRollup,
+        BackgroundThreadFactory backgroundThreadFactory,
+        MeterRegistry meterRegistry,
+        @Value("${board.search-log.queue-capacity:10000}") int queueCapacity,
+        @Value("${board.search-log.batch-size:200}") int batchSize,
+        @Value("${board.search-log.overflow-policy:DROP_NEWEST}") OverflowPolicy overflowPolicy,
+        @Value("${board.search-log.offer-timeout-ms:20}") long offerTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchWordRollup = searchWordRollup;
+        this.backgroundThreadFactory = backgroundThreadFactory;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMs = offerTimeoutMs;
+
+        Gauge.builder("search.log.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.droppedCounter = Counter.builder("search.log.dropped").register(meterRegistry);
+        this.writtenCounter = Counter.builder("search.log.written").register(meterRegistry);
+        this.failedCounter = Counter.builder("search.log.failed").register(meterRegistry);
+    }
+
+    public void write(SearchLogEntity searchLogEntity) {
+        boolean accepted;
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                accepted = queue.offer(searchLogEntity);
+                while (!accepted) {
+                    if (queue.poll() != null) droppedCounter.increment();
+                    accepted = queue.offer(searchLogEntity);
+                }
+            }
+            case BLOCK -> {
+                try {
+                    accepted = queue.offer(searchLogEntity, offerTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+            }
+            default -> accepted = queue.offer(searchLogEntity);
+        }
+
+        if (!accepted) droppedCounter.increment();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = backgroundThreadFactory.newThread("search-log-writer", this::run);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 시 남은 로그 모두 저장
+        List<SearchLogEntity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<SearchLogEntity> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                SearchLogEntity first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                insert(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void insert(List<SearchLogEntity> batch) {
+        if (batch.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO search_log (search_word, relation_word, relation) VALUES ");
+        Object[] args = new Object[batch.size() * 3];
+        for (int i = 0; i < batch.size(); i++) {
+            SearchLogEntity searchLogEntity = batch.get(i);
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args[i * 3] = searchLogEntity.getSearchWord();
+            args[i * 3 + 1] = searchLogEntity.getRelationWord();
+            args[i * 3 + 2] = searchLogEntity.isRelation();
+        }
+
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            failedCounter.increment(batch.size());
+            return;
+        }
+
+        searchWordRollup.record(batch);
+    }
+
+}
@@ -0,0 +1,55 @@
+package board.search;
+
+import board.config.BackgroundThreadFactory;
+import board.entity.BoardEntity;
+import board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// search_text 가 비어 있는 기존 게시물을 기동 후 백그라운드에서 채움
+// 끝나기 전(isDone() 이 false)에는 대체 검색이 search_text 가 없는 게시물을 기존 title/content 조건으로 함께 검색
+@Component
+@RequiredArgsConstructor
+public class SearchTextBackfill {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundThreadFactory backgroundThreadFactory;
+
+    private volatile boolean done = false;
+
+    public boolean isDone() {
+        return done;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        backgroundThreadFactory.newThread("search-text-backfill", this::backfill).start();
+    }
+
+    private void backfill() {
+        try {
+            List<BoardEntity> boardEntities;
+            do {
+                boardEntities = boardRepository.findTop500BySearchTextIsNullOrderByBoardNumberAsc();
+                List<BoardEntity> chunk = boardEntities;
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (BoardEntity boardEntity : chunk) {
+                        String searchText = SearchTextNormalizer.searchText(boardEntity.getTitle(), boardEntity.getContent());
+                        boardRepository.updateSearchText(boardEntity.getBoardNumber(), searchText);
+                    }
+                });
+            } while (!boardEntities.isEmpty());
+
+            done = true;
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+}
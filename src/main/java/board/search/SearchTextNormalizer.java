@@ -0,0 +1,209 @@
+package board.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 검색용 텍스트 정규화 및 n-gram 토큰화
+public final class SearchTextNormalizer {
+
+    private static final Pattern URL_PATTERN = Pattern.compile("(?i)https?://[^\\s)\\]]+");
+    private static final Pattern IMG_TAG_PATTERN = Pattern.compile("<img[^>]*>");
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]+>");
+    private static final Pattern MD_IMAGE_PATTERN = Pattern.compile("!\\[[^]]*]\\([^)]*\\)");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private SearchTextNormalizer() {
+    }
+
+    public static String stripUrlsAndTags(String s) {
+        if (s == null) return "";
+        // 1) 마크다운 이미지 구문 제거: ![alt](url)
+        s = MD_IMAGE_PATTERN.matcher(s).replaceAll("");
+        // 2) HTML <img ...> 제거
+        s = IMG_TAG_PATTERN.matcher(s).replaceAll("");
+        // 3) URL 제거
+        s = URL_PATTERN.matcher(s).replaceAll("");
+        // 4) 남은 HTML 태그 제거
+        s = HTML_TAG_PATTERN.matcher(s).replaceAll("");
+        return s;
+    }
+
+    // 목록 미리보기: 잘린 본문 끝의 닫히지 않은 태그/마크다운 이미지까지 제거하고 공백을 정리하여 length 자로 제한
+    public static String preview(String s, int length) {
+        if (s == null) return "";
+
+        int openTag = s.lastIndexOf('<');
+        if (openTag >= 0 && s.indexOf('>', openTag) < 0) s = s.substring(0, openTag);
+        int openImage = s.lastIndexOf("![");
+        if (openImage >= 0 && s.indexOf(')', openImage) < 0) s = s.substring(0, openImage);
+
+        s = WHITESPACE_PATTERN.matcher(stripUrlsAndTags(s)).replaceAll(" ").trim();
+        if (s.length() <= length) return s;
+
+        int end = length;
+        if (Character.isHighSurrogate(s.charAt(end - 1))) end--;
+        return s.substring(0, end);
+    }
+
+    // board.search_text 값: 제목과 본문 사이를 줄바꿈으로 구분하여 경계를 넘는 일치를 막음
+    public static String searchText(String title, String content) {
+        return toSearchText(title) + "\n" + toSearchText(content);
+    }
+
+    // LIKE '%...%' 에 넣을 검색어 (정규화 후 와일드카드 문자 이스케이프)
+    public static String likeKeyword(String searchWord) {
+        return escapeLike(toSearchText(searchWord));
+    }
+
+    // search_text 가 아직 없는 게시물의 title/content LIKE 용 (정규화 없이 와일드카드 문자만 이스케이프)
+    public static String escapeLike(String s) {
+        if (s == null) return "";
+        return s
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
+    // MATCH ... AGAINST (BOOLEAN MODE) 구문 검색어: 정규화된 검색어를 큰따옴표로 감싸 ngram 이 이어진 행만 후보로 찾음
+    // ngram_token_size(2) 보다 짧은 단어가 있거나 큰따옴표가 포함되어 색인으로 찾을 수 없으면 null
+    public static String fullTextKeyword(String searchWord) {
+        String phrase = toSearchText(searchWord);
+        if (phrase.indexOf('"') >= 0) return null;
+
+        Set<String> terms = queryTerms(phrase);
+        if (terms.isEmpty()) return null;
+        for (String term : terms) {
+            if (term.length() < 2) return null;
+        }
+        return "\"" + phrase + "\"";
+    }
+
+    // 검색용 텍스트: stripUrlsAndTags + normalize + 공백 정리를 정규식 없이 한 번의 순회로 처리
+    // 마크다운 이미지, HTML 태그, http(s) URL 을 건너뛰고 소문자로 변환하며 연속 공백은 하나로 합침
+    public static String toSearchText(String s) {
+        if (s == null) return "";
+
+        int length = s.length();
+        StringBuilder builder = new StringBuilder(length);
+        boolean pendingSpace = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+
+            int skipTo = -1;
+            if (c == '!') skipTo = markdownImageEnd(s, i);
+            else if (c == '<') skipTo = tagEnd(s, i);
+            else if (c == 'h' || c == 'H') skipTo = urlEnd(s, i);
+
+            if (skipTo > i) {
+                i = skipTo;
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+            } else {
+                if (pendingSpace) builder.append(' ');
+                pendingSpace = false;
+                builder.append(Character.toLowerCase(c));
+            }
+            i++;
+        }
+        return builder.toString();
+    }
+
+    // ![alt](url) 의 끝 다음 위치, 형식이 아니면 -1
+    private static int markdownImageEnd(String s, int start) {
+        if (start + 1 >= s.length() || s.charAt(start + 1) != '[') return -1;
+        int close = s.indexOf(']', start + 2);
+        if (close < 0 || close + 1 >= s.length() || s.charAt(close + 1) != '(') return -1;
+        int end = s.indexOf(')', close + 2);
+        return end < 0 ? -1 : end + 1;
+    }
+
+    // <...> 의 끝 다음 위치, 형식이 아니면 -1
+    private static int tagEnd(String s, int start) {
+        if (start + 1 >= s.length() || s.charAt(start + 1) == '>') return -1;
+        int end = s.indexOf('>', start + 1);
+        return end < 0 ? -1 : end + 1;
+    }
+
+    // http:// 또는 https:// 로 시작하는 URL 의 끝(공백, ')', ']' 직전) 위치, URL 이 아니면 -1
+    private static int urlEnd(String s, int start) {
+        int i = start;
+        if (!s.regionMatches(true, i, "http", 0, 4)) return -1;
+        i += 4;
+        if (i < s.length() && (s.charAt(i) == 's' || s.charAt(i) == 'S')) i++;
+        if (!s.startsWith("://", i)) return -1;
+        i += 3;
+
+        int urlStart = i;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c) || c == ')' || c == ']') break;
+            i++;
+        }
+        return i > urlStart ? i : -1;
+    }
+
+    public static String normalize(String s) {
+        if (s == null) return "";
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    // 단어(문자/숫자 연속 구간) 단위로 1-gram, 2-gram 생성
+    // 한글은 형태소 분석 없이 음절 bigram 으로 부분 일치를 지원
+    public static Set<String> tokenize(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (normalized == null) return terms;
+
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWordTerms(normalized, start, i, terms);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // 검색어는 단어별로 가장 긴 n-gram 만 사용 (모두 포함해야 일치)
+    public static Set<String> queryTerms(String searchWord) {
+        Set<String> terms = new LinkedHashSet<>();
+        String normalized = normalize(searchWord);
+
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start == 1) {
+                    terms.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j + 2 <= i; j++)
+                        terms.add(normalized.substring(j, j + 2));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addWordTerms(String text, int start, int end, Set<String> terms) {
+        for (int i = start; i < end; i++) {
+            terms.add(text.substring(i, i + 1));
+            if (i + 2 <= end)
+                terms.add(text.substring(i, i + 2));
+        }
+    }
+
+}
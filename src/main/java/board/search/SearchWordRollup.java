@@ -0,0 +1,208 @@
+package board.search;
+
+import board.cache.CacheLoading;
+import board.entity.SearchLogEntity;
+import board.repository.SearchLogRepository;
+import board.repository.SearchWordCountRepository;
+import board.repository.resultSet.GetPopularListResultSet;
+import board.repository.resultSet.GetRelationListResultSet;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+// 인기/연관 검색어 집계
+// 검색 로그를 1시간 단위 버킷으로 요약 테이블(search_word_count)에 누적하고,
+// 최근 window-hours 시간 구간만 합산하여 search_log 전체 GROUP BY 없이 조회
+// 모든 인스턴스가 같은 요약 테이블을 보도록 인기 검색어는 refresh 주기마다, 연관 검색어는 검색어별로 같은 주기 동안 캐시하여 DB 에서 읽음
+// search_log 에는 시각이 없어 과거 로그로 버킷을 채울 수 없으므로, 요약 테이블이 window 를 다 채우기 전(첫 배포 후 window-hours 동안)에는
+// 한 번 구한 전체 기간 인기 검색어로 빈자리를 채우고, 연관 검색어는 SearchServiceImpl 에서 search_log 로 보충
+// 기동 시 또는 이후 refresh 에서 처음 성공하기 전까지 isReady() 가 false (실패하면 다음 주기에 다시 시도)
+@Component
+public class SearchWordRollup {
+
+    private static final int LIST_SIZE = 15;
+    private static final String POPULAR = "";
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00:00");
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchWordCountRepository searchWordCountRepository;
+    private final SearchLogRepository searchLogRepository;
+    private final int windowHours;
+
+    // 검색어 -> 연관 검색어 목록
+    private final AsyncCache<String, List<GetRelationListResultSet>> relationCache;
+    private volatile List<GetPopularListResultSet> popularList = Collections.emptyList();
+    private volatile boolean ready = false;
+    // 요약 테이블이 window 전체를 채우게 되는 시각(확인 전에는 null)과 그 전까지 쓰는 전체 기간 인기 검색어
+    private volatile LocalDateTime warmUntil = null;
+    private volatile List<SearchWordCount> seedPopularList = Collections.emptyList();
+
+    public SearchWordRollup(
+        JdbcTemplate jdbcTemplate,
+        SearchWordCountRepository searchWordCountRepository,
+        SearchLogRepository searchLogRepository,
+        MeterRegistry meterRegistry,
+        @Value("${board.search-rollup.window-hours:24}") int windowHours,
+        @Value("${board.search-rollup.refresh-interval-ms:30000}") long refreshIntervalMs,
+        @Value("${board.search-rollup.relation-cache-size:10000}") long relationCacheSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchWordCountRepository = searchWordCountRepository;
+        this.searchLogRepository = searchLogRepository;
+        this.windowHours = windowHours;
+        this.relationCache = Caffeine.newBuilder()
+            .maximumSize(relationCacheSize)
+            .expireAfterWrite(Duration.ofMillis(refreshIntervalMs))
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, relationCache.synchronous(), "searchRelation");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isWarming() {
+        LocalDateTime until = warmUntil;
+        return until == null || LocalDateTime.now().isBefore(until);
+    }
+
+    public List<GetPopularListResultSet> getPopularList() {
+        return popularList;
+    }
+
+    public List<GetRelationListResultSet> getRelationList(String searchWord) {
+        return CacheLoading.get(relationCache, searchWord, key ->
+            Collections.unmodifiableList(new ArrayList<>(searchWordCountRepository.getRelationList(key, windowStart(), LIST_SIZE)))
+        );
+    }
+
+    // 검색 로그 배치 저장 직후 호출 (SearchLogWriter 스레드)
+    public void record(List<SearchLogEntity> searchLogEntities) {
+        String bucketHour = LocalDateTime.now().format(BUCKET_FORMATTER);
+
+        // (검색어, 연관 검색어) -> 건수, 연관 검색어가 POPULAR 이면 인기 검색어 집계
+        Map<List<String>, Long> rows = new LinkedHashMap<>();
+        for (SearchLogEntity searchLogEntity : searchLogEntities) {
+            String searchWord = searchLogEntity.getSearchWord();
+            String relationWord = searchLogEntity.getRelationWord();
+
+            if (!searchLogEntity.isRelation())
+                rows.merge(List.of(searchWord, POPULAR), 1L, Long::sum);
+            if (relationWord != null && !relationWord.isEmpty())
+                rows.merge(List.of(searchWord, relationWord), 1L, Long::sum);
+        }
+
+        upsert(bucketHour, rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${board.search-rollup.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            if (warmUntil == null) initializeWarmUp();
+
+            List<SearchWordCount> list = new ArrayList<>();
+            Set<String> counted = new HashSet<>();
+            for (GetPopularListResultSet resultSet : searchWordCountRepository.getPopularList(windowStart(), LIST_SIZE)) {
+                list.add(new SearchWordCount(resultSet.getSearchWord(), resultSet.getCount()));
+                counted.add(resultSet.getSearchWord());
+            }
+
+            if (!isWarming()) seedPopularList = Collections.emptyList();
+            for (SearchWordCount seed : seedPopularList) {
+                if (list.size() >= LIST_SIZE) break;
+                if (!counted.contains(seed.getSearchWord())) list.add(seed);
+            }
+
+            popularList = Collections.unmodifiableList(list);
+            ready = true;
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 가장 오래된 버킷(없으면 지금)부터 window-hours 가 지나야 요약 테이블만으로 충분
+    private void initializeWarmUp() {
+        String firstBucketHour = jdbcTemplate.queryForObject("SELECT MIN(bucket_hour) FROM search_word_count", String.class);
+        LocalDateTime collectedSince = firstBucketHour == null
+            ? LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+            : LocalDateTime.parse(firstBucketHour, DATETIME_FORMATTER);
+        LocalDateTime until = collectedSince.plusHours(windowHours);
+
+        if (LocalDateTime.now().isBefore(until)) {
+            List<SearchWordCount> seed = new ArrayList<>();
+            for (GetPopularListResultSet resultSet : searchLogRepository.getPopularList())
+                seed.add(new SearchWordCount(resultSet.getSearchWord(), resultSet.getCount()));
+            seedPopularList = seed;
+        }
+        warmUntil = until;
+    }
+
+    @Scheduled(cron = "${board.search-rollup.purge-cron:0 10 * * * *}")
+    public void purge() {
+        try {
+            searchWordCountRepository.deleteBefore(windowStart());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void upsert(String bucketHour, Map<List<String>, Long> rows) {
+        if (rows.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO search_word_count (bucket_hour, search_word, relation_word, search_count) VALUES "
+        );
+        Object[] args = new Object[rows.size() * 4];
+        int i = 0;
+        for (Map.Entry<List<String>, Long> row : rows.entrySet()) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i * 4] = bucketHour;
+            args[i * 4 + 1] = row.getKey().get(0);
+            args[i * 4 + 2] = row.getKey().get(1);
+            args[i * 4 + 3] = row.getValue();
+            i++;
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count)");
+
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private String windowStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(windowHours - 1L).format(BUCKET_FORMATTER);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchWordCount implements GetPopularListResultSet, GetRelationListResultSet {
+        private String searchWord;
+        private int count;
+    }
+
+}
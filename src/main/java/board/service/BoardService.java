@@ -8,12 +8,14 @@ import org.springframework.http.ResponseEntity;
 
 public interface BoardService {
     ResponseEntity<? super GetBoardResponseDto> getBoard(Integer boardNumber);
-    ResponseEntity<? super GetFavoriteListResponseDto> getFavoriteList(Integer boardNumber);
-    ResponseEntity<? super GetCommentListResponseDto> getCommentList(Integer boardNumber);
-    ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList();
+    ResponseEntity<? super GetFavoriteSummaryResponseDto> getFavoriteSummary(Integer boardNumber, String email);
+    ResponseEntity<? super GetFavoriteListResponseDto> getFavoriteList(Integer boardNumber, String cursor, Integer size);
+    ResponseEntity<? super GetCommentListResponseDto> getCommentList(Integer boardNumber, String cursor, Integer size);
+    ResponseEntity<? super GetCommentListResponseDto> getCommentListSince(Integer boardNumber, String cursor, Integer size);
+    ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList(String cursor, Integer size);
     ResponseEntity<? super GetTop3BoardListResponseDto> getTop3BoardList();
-    ResponseEntity<? super GetSearchBoardListResponseDto> getSearchBoardList(String searchWord, String preSearchWord);
-    ResponseEntity<? super GetUserBoardListResponseDto> getUserBoardList(String email);
+    ResponseEntity<? super GetSearchBoardListResponseDto> getSearchBoardList(String searchWord, String preSearchWord, Integer page, Integer size);
+    ResponseEntity<? super GetUserBoardListResponseDto> getUserBoardList(String email, String cursor, Integer size);
     ResponseEntity<? super PostBoardResponseDto> postBoard(PostBoardRequestDto dto, String email);
     ResponseEntity<? super PostCommentResponseDto> postComment(PostCommentRequestDto dto, Integer boardNumber, String email);
     ResponseEntity<? super PutFavoriteResponseDto> putFavorite(Integer boardNumber, String email);
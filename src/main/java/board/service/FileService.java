@@ -1,11 +1,13 @@
 package board.service;
 
-import org.springframework.core.io.Resource;
+import board.file.ImageVariant;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+
 public interface FileService {
 
     String upload(MultipartFile file);
-    Resource getImage(String fileName);
+    Path getImage(String fileName, ImageVariant variant);
 
 }
@@ -1,5 +1,6 @@
 package board.service.implement;
 
+import board.cache.AuthenticatedUserCache;
 import board.dto.request.auth.GoogleAuthRequestDto;
 import board.dto.request.auth.SignInRequestDto;
 import board.dto.request.auth.SignUpRequestDto;
@@ -7,34 +8,29 @@ import board.dto.response.ResponseDto;
 import board.dto.response.auth.SignInResponseDto;
 import board.dto.response.auth.SignUpResponseDto;
 import board.entity.UserEntity;
+import board.provider.GoogleIdTokenProvider;
 import board.provider.JwtProvider;
 import board.repository.UserRepository;
 import board.service.AuthService;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final JwtProvider jwtProvider;
+    private final GoogleIdTokenProvider googleIdTokenProvider;
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
     private final PasswordEncoder passwordEncoder;
 
-    @Value("${google.client-id}")
-    private String googleClientId;
-
     @Override
     public ResponseEntity<? super SignUpResponseDto> signUp(SignUpRequestDto dto) {
 
@@ -82,6 +78,7 @@ public class AuthServiceImpl implements AuthService {
                 return SignInResponseDto.signInFail();
 
             token = jwtProvider.create(email);
+            authenticatedUserCache.put(email);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -98,7 +95,7 @@ public class AuthServiceImpl implements AuthService {
 
         try {
             // 1. Google ID Token 검증 및 Payload 추출
-            GoogleIdToken.Payload payload = verifyGoogleIdToken(dto.getIdToken());
+            GoogleIdToken.Payload payload = googleIdTokenProvider.verify(dto.getIdToken());
 
             if (payload == null) {
                 // 검증 실패 시 401 Unauthorized 또는 Sign In Fail 응답
@@ -135,6 +132,7 @@ public class AuthServiceImpl implements AuthService {
 
             // 5. 자체 JWT 토큰 생성 및 반환
             token = jwtProvider.create(email);
+            authenticatedUserCache.put(email);
 
         } catch (GeneralSecurityException | IOException e) {
             // Google ID Token 검증 중 보안/IO 에러 발생
@@ -148,14 +146,4 @@ public class AuthServiceImpl implements AuthService {
         return SignInResponseDto.success(token);
     }
 
-    private GoogleIdToken.Payload verifyGoogleIdToken(String idToken) throws GeneralSecurityException, IOException {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-            .setAudience(Collections.singletonList(googleClientId)) // 환경변수에서 가져온 CLIENT_ID 사용
-            .build();
-
-        GoogleIdToken googleIdToken = verifier.verify(idToken);
-
-        return (googleIdToken != null) ? googleIdToken.getPayload() : null;
-    }
-
 }
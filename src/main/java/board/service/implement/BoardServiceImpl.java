@@ -1,221 +1,494 @@
 package board.service.implement;
 
+import board.common.PageCursor;
+import board.cache.AuthenticatedUserCache;
+import board.cache.BoardDetailCache;
+import board.cache.CommentListCache;
+import board.cache.UserBoardListCache;
+import board.counter.ViewCountBuffer;
 import board.dto.request.board.PatchBoardRequestDto;
 import board.dto.request.board.PostBoardRequestDto;
 import board.dto.request.board.PostCommentRequestDto;
 import board.dto.response.ResponseDto;
 import board.dto.response.board.*;
 import board.entity.*;
+import board.entity.primaryKey.FavoritePk;
+import board.event.*;
+import board.favorite.BoardFavoriteIndex;
+import board.file.ContentAddressedFileStore;
+import board.file.ImageUrlResolver;
 import board.repository.*;
+import board.repository.resultSet.GetBoardListResultSet;
 import board.repository.resultSet.GetBoardResultSet;
 import board.repository.resultSet.GetCommentListResultSet;
 import board.repository.resultSet.GetFavoriteListResultSet;
+import board.purge.BoardPurgeQueue;
+import board.ranking.Top3BoardRanking;
+import board.search.BoardSearchIndex;
+import board.search.SearchLogWriter;
+import board.search.SearchTextBackfill;
+import board.search.SearchTextNormalizer;
 import board.service.BoardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
-    private static final Pattern URL_PATTERN = Pattern.compile("(?i)https?://[^\\s)\\]]+");
-    private static final Pattern IMG_TAG_PATTERN = Pattern.compile("<img[^>]*>");
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]+>");
-    private static final Pattern MD_IMAGE_PATTERN = Pattern.compile("!\\[[^]]*]\\([^)]*\\)");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
 
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final ImageRepository imageRepository;
     private final CommentRepository commentRepository;
     private final FavoriteRepository favoriteRepository;
-    private final SearchLogRepository searchLogRepository;
-    private final BoardListViewRepository boardListViewRepository;
-
-    private static String stripUrlsAndTags(String s) {
-        if (s == null) return "";
-        // 1) 마크다운 이미지 구문 제거: ![alt](url)
-        s = MD_IMAGE_PATTERN.matcher(s).replaceAll("");
-        // 2) HTML <img ...> 제거
-        s = IMG_TAG_PATTERN.matcher(s).replaceAll("");
-        // 3) URL 제거
-        s = URL_PATTERN.matcher(s).replaceAll("");
-        // 4) 남은 HTML 태그 제거
-        s = HTML_TAG_PATTERN.matcher(s).replaceAll("");
-        return s;
-    }
-
-    private static boolean containsIgnoreCase(String haystack, String needle) {
-        if (haystack == null || needle == null) return false;
-        return haystack.toLowerCase().contains(needle.toLowerCase());
+    private final BoardListRepository boardListRepository;
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final SearchLogWriter searchLogWriter;
+    private final SearchTextBackfill searchTextBackfill;
+    private final BoardDetailCache boardDetailCache;
+    private final UserBoardListCache userBoardListCache;
+    private final CommentListCache commentListCache;
+    private final BoardFavoriteIndex boardFavoriteIndex;
+    private final Top3BoardRanking top3BoardRanking;
+    private final ViewCountBuffer viewCountBuffer;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final BoardPurgeQueue boardPurgeQueue;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final ImageUrlResolver imageUrlResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    private static int toPageSize(Integer size) {
+        if (size == null || size <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     @Override
     public ResponseEntity<? super GetBoardResponseDto> getBoard(Integer boardNumber) {
 
-        GetBoardResultSet resultSet;
-        List<ImageEntity> imageEntities;
+        GetBoardResponseDto responseBody;
 
         try {
 
-            resultSet = boardRepository.getBoard(boardNumber);
-            if (resultSet == null)
+            if (boardPurgeQueue.isPending(boardNumber))
                 return GetBoardResponseDto.notExistBoard();
 
-            imageEntities = imageRepository.findByBoardNumber(boardNumber);
+            responseBody = boardDetailCache.get(boardNumber, key -> {
+                GetBoardResultSet resultSet = boardRepository.getBoard(key);
+                if (resultSet == null)
+                    return null;
+
+                List<ImageEntity> imageEntities = imageRepository.findByBoardNumberOrderBySequenceAsc(key);
+                return GetBoardResponseDto.success(resultSet, imageEntities).getBody();
+            });
+
+            if (responseBody == null)
+                return GetBoardResponseDto.notExistBoard();
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
 
-        return GetBoardResponseDto.success(resultSet, imageEntities);
+        return GetBoardResponseDto.success(responseBody);
     }
 
     @Override
-    public ResponseEntity<? super GetFavoriteListResponseDto> getFavoriteList(Integer boardNumber) {
+    public ResponseEntity<? super GetFavoriteSummaryResponseDto> getFavoriteSummary(Integer boardNumber, String email) {
+
+        BoardFavoriteIndex.Summary summary;
+
+        try {
+
+            if (boardPurgeQueue.isPending(boardNumber))
+                return GetFavoriteSummaryResponseDto.notExistBoard();
+
+            // 좋아요 수/본인 좋아요 여부는 메모리 집합에서, 미리보기는 앞쪽 N 명만
+            summary = boardFavoriteIndex.getSummary(boardNumber, email);
+            if (summary == null)
+                return GetFavoriteSummaryResponseDto.notExistBoard();
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetFavoriteSummaryResponseDto.success(summary);
+    }
+
+    @Override
+    public ResponseEntity<? super GetFavoriteListResponseDto> getFavoriteList(Integer boardNumber, String cursor, Integer size) {
 
         List<GetFavoriteListResultSet> resultSets;
+        String nextCursor = null;
 
         try {
 
-            boolean existedBoard = boardRepository.existsById(boardNumber);
-            if (!existedBoard)
+            if (boardPurgeQueue.isPending(boardNumber))
+                return GetFavoriteListResponseDto.notExistBoard();
+
+            // 좋아요에는 작성 일시가 없으므로 사용자 이메일 순 keyset (커서는 마지막 이메일)
+            int pageSize = toPageSize(size);
+            resultSets = cursor == null
+                ? favoriteRepository.getFavoriteList(boardNumber, pageSize + 1)
+                : favoriteRepository.getFavoriteListAfter(boardNumber, cursor, pageSize + 1);
+
+            // 게시물 기준 LEFT JOIN: 행이 없으면 존재하지 않는 게시물, email 이 null 인 행은 좋아요 없음
+            if (resultSets.isEmpty())
                 return GetFavoriteListResponseDto.notExistBoard();
 
-            resultSets = favoriteRepository.getFavoriteList(boardNumber);
+            List<GetFavoriteListResultSet> favoriteList = new ArrayList<>();
+            for (GetFavoriteListResultSet resultSet : resultSets) {
+                if (resultSet.getEmail() != null) favoriteList.add(resultSet);
+            }
+
+            if (favoriteList.size() > pageSize) {
+                favoriteList = favoriteList.subList(0, pageSize);
+                nextCursor = favoriteList.get(pageSize - 1).getEmail();
+            }
+            resultSets = favoriteList;
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
 
-        return GetFavoriteListResponseDto.success(resultSets);
+        return GetFavoriteListResponseDto.success(resultSets, nextCursor, imageUrlResolver);
     }
 
     @Override
-    public ResponseEntity<? super GetCommentListResponseDto> getCommentList(Integer boardNumber) {
+    public ResponseEntity<? super GetCommentListResponseDto> getCommentList(Integer boardNumber, String cursor, Integer size) {
+        CommentListCache.Page page;
+
+        try {
+
+            if (boardPurgeQueue.isPending(boardNumber))
+                return GetCommentListResponseDto.notExistBoard();
+
+            int pageSize = toPageSize(size);
+
+            // 기본 크기의 첫 페이지만 게시물별로 캐시
+            if (cursor == null && pageSize == DEFAULT_PAGE_SIZE) {
+                page = commentListCache.get(boardNumber, key -> getCommentPage(key, null, pageSize));
+            } else {
+                PageCursor pageCursor = null;
+                if (cursor != null) {
+                    pageCursor = PageCursor.decode(cursor);
+                    if (pageCursor == null)
+                        return ResponseDto.validationFailed();
+                }
+                page = getCommentPage(boardNumber, pageCursor, pageSize);
+            }
+
+            if (page == null)
+                return GetCommentListResponseDto.notExistBoard();
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+        return GetCommentListResponseDto.success(page.getCommentList(), page.getNextCursor(), page.getLatestCursor(), page.getTotalCount(), imageUrlResolver);
+    }
 
+    @Override
+    public ResponseEntity<? super GetCommentListResponseDto> getCommentListSince(Integer boardNumber, String cursor, Integer size) {
         List<GetCommentListResultSet> resultSets;
+        String latestCursor = cursor;
+        Integer totalCount;
 
         try {
 
-            boolean existedBoard = boardRepository.existsByBoardNumber(boardNumber);
-            if(!existedBoard)
+            if (boardPurgeQueue.isPending(boardNumber))
+                return GetCommentListResponseDto.notExistBoard();
+
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            if (pageCursor == null)
+                return ResponseDto.validationFailed();
+
+            // 새 댓글을 오래된 순으로 최대 pageSize 건 조회 (가득 차면 클라이언트가 latestCursor 로 이어서 조회)
+            resultSets = commentRepository.getCommentListSince(
+                boardNumber, pageCursor.getWriteDatetime(), pageCursor.getNumber(), toPageSize(size)
+            );
+            if (resultSets.isEmpty())
                 return GetCommentListResponseDto.notExistBoard();
 
-            resultSets = commentRepository.getCommentList(boardNumber);
+            totalCount = resultSets.get(0).getCommentCount();
+            resultSets = withoutEmptyRow(resultSets);
+            if (!resultSets.isEmpty())
+                latestCursor = commentCursor(resultSets.get(resultSets.size() - 1));
+
+            // 목록과 같은 최신순으로 반환
+            resultSets = new ArrayList<>(resultSets);
+            Collections.reverse(resultSets);
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
-        return GetCommentListResponseDto.success(resultSets);
+        return GetCommentListResponseDto.success(resultSets, null, latestCursor, totalCount, imageUrlResolver);
+    }
+
+    // 게시물 기준 LEFT JOIN 으로 존재 확인과 목록 조회를 한 번에 처리 (행이 없으면 존재하지 않는 게시물, null 반환)
+    private CommentListCache.Page getCommentPage(Integer boardNumber, PageCursor pageCursor, int pageSize) {
+        List<GetCommentListResultSet> resultSets = pageCursor == null
+            ? commentRepository.getCommentList(boardNumber, pageSize + 1)
+            : commentRepository.getCommentListAfter(
+                boardNumber, pageCursor.getWriteDatetime(), pageCursor.getNumber(), pageSize + 1
+            );
+
+        if (resultSets.isEmpty())
+            return null;
+
+        List<GetCommentListResultSet> commentList = withoutEmptyRow(resultSets);
+
+        String nextCursor = null;
+        if (commentList.size() > pageSize) {
+            commentList = commentList.subList(0, pageSize);
+            nextCursor = commentCursor(commentList.get(pageSize - 1));
+        }
+
+        // 첫 페이지만 최신 댓글 기준 커서와 전체 댓글 수를 함께 반환 (댓글이 없으면 커서는 null 이며, 이때는 첫 페이지를 다시 조회)
+        String latestCursor = (pageCursor == null && !commentList.isEmpty()) ? commentCursor(commentList.get(0)) : null;
+        Integer totalCount = pageCursor == null ? resultSets.get(0).getCommentCount() : null;
+
+        return new CommentListCache.Page(List.copyOf(commentList), nextCursor, latestCursor, totalCount);
+    }
+
+    // commentNumber 가 null 인 행은 댓글 없이 게시물만 조인된 행
+    private static List<GetCommentListResultSet> withoutEmptyRow(List<GetCommentListResultSet> resultSets) {
+        List<GetCommentListResultSet> commentList = new ArrayList<>();
+        for (GetCommentListResultSet resultSet : resultSets) {
+            if (resultSet.getCommentNumber() != null) commentList.add(resultSet);
+        }
+        return commentList;
+    }
+
+    private static String commentCursor(GetCommentListResultSet resultSet) {
+        return PageCursor.encode(resultSet.getWriteDatetime(), resultSet.getCommentNumber());
     }
 
     @Override
-    public ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList() {
-        List<BoardListViewEntity> boardListViewEntities;
+    public ResponseEntity<? super GetLatestBoardListResponseDto> getLatestBoardList(String cursor, Integer size) {
+        List<GetBoardListResultSet> boardListViewEntities;
+        String nextCursor = null;
 
         try {
 
-            boardListViewEntities = boardListViewRepository.findByOrderByWriteDatetimeDesc();
+            int pageSize = toPageSize(size);
+
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (OFFSET 없이 keyset 으로 이어서 조회)
+            if (cursor == null) {
+                boardListViewEntities = boardListRepository.getLatestList(pageSize + 1);
+            } else {
+                PageCursor pageCursor = PageCursor.decode(cursor);
+                if (pageCursor == null)
+                    return ResponseDto.validationFailed();
+
+                boardListViewEntities = boardListRepository.getLatestListAfter(
+                    pageCursor.getWriteDatetime(), pageCursor.getNumber(), pageSize + 1
+                );
+            }
+
+            if (boardListViewEntities.size() > pageSize) {
+                boardListViewEntities = boardListViewEntities.subList(0, pageSize);
+                GetBoardListResultSet last = boardListViewEntities.get(pageSize - 1);
+                nextCursor = PageCursor.encode(last.getWriteDatetime(), last.getBoardNumber());
+            }
+            boardListViewEntities = boardPurgeQueue.exclude(boardListViewEntities);
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
 
-        return GetLatestBoardListResponseDto.success(boardListViewEntities);
+        return GetLatestBoardListResponseDto.success(boardListViewEntities, nextCursor, imageUrlResolver);
     }
 
     @Override
     public ResponseEntity<? super GetTop3BoardListResponseDto> getTop3BoardList() {
 
-        List<BoardListViewEntity> boardListViewEntities;
+        List<GetBoardListResultSet> boardListViewEntities;
 
         try {
 
+            if (top3BoardRanking.isReady())
+                return GetTop3BoardListResponseDto.success(top3BoardRanking.getTop3(), imageUrlResolver);
+
+            // 기동 직후 랭킹 적재 전에는 DB 에서 직접 조회
             Date beforeWeek = Date.from(Instant.now().minus(7, ChronoUnit.DAYS));
             SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
             String beforeWeekString = simpleDateFormat.format(beforeWeek);
 
-            boardListViewEntities = boardListViewRepository.findTop3ByWriteDatetimeGreaterThanOrderByFavoriteCountDescCommentCountDescViewCountDescWriteDatetimeDesc(beforeWeekString);
+            boardListViewEntities = boardListRepository.getTop3List(beforeWeekString);
+            boardListViewEntities = boardPurgeQueue.exclude(boardListViewEntities);
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
 
-        return GetTop3BoardListResponseDto.success(boardListViewEntities);
+        return GetTop3BoardListResponseDto.success(boardListViewEntities, imageUrlResolver);
     }
 
     @Override
-    public ResponseEntity<? super GetSearchBoardListResponseDto> getSearchBoardList(String searchWord, String preSearchWord) {
-        List<BoardListViewEntity> boardListViewEntities;
+    public ResponseEntity<? super GetSearchBoardListResponseDto> getSearchBoardList(String searchWord, String preSearchWord, Integer page, Integer size) {
+        List<GetBoardListResultSet> boardListViewEntities;
+        Integer nextPage = null;
+        Integer totalCount = null;
 
         try {
-            // 1) 일단 기존 방식대로 후보군 조회 (DB에서 제목 또는 본문에 검색어가 포함된 모든 글을 가져옴)
-            boardListViewEntities = boardListViewRepository
-                .findByTitleContainsOrContentContainsOrderByWriteDatetimeDesc(searchWord, searchWord);
-
-            // 2) 서비스 레이어에서 URL/태그 제거 텍스트 기준으로 재필터링 (핵심 변경 부분)
-            final String q = searchWord;
-            boardListViewEntities = boardListViewEntities.stream()
-                .filter(e -> {
-                    String title = e.getTitle();
-                    String content = e.getContent();
-                    String normalized = stripUrlsAndTags(content); // 태그/URL 제거된 깨끗한 본문
-
-                    // 제목은 그대로 검색 || 정제된 본문으로 검색
-                    return containsIgnoreCase(title, q) || containsIgnoreCase(normalized, q);
-                })
-                .collect(Collectors.toList());
-
-            // 3) 검색 로그 로직은 기존 그대로 유지
-            SearchLogEntity searchLogEntity = new SearchLogEntity(searchWord, preSearchWord, false);
-            searchLogRepository.save(searchLogEntity);
-
-            boolean relation = preSearchWord != null;
-            if (relation) {
-                searchLogEntity = new SearchLogEntity(preSearchWord, searchWord, relation);
-                searchLogRepository.save(searchLogEntity);
+
+            int pageSize = toPageSize(size);
+            int pageNumber = (page == null || page < 0) ? 0 : page;
+            int offset = pageNumber * pageSize;
+
+            if (boardSearchIndex.isReady()) {
+                // 1) 역색인에서 순위가 매겨진 게시물 번호만 조회
+                BoardSearchIndex.SearchResult searchResult = boardSearchIndex.search(searchWord, offset, pageSize);
+                List<Integer> boardNumbers = searchResult.getBoardNumbers();
+                totalCount = searchResult.getTotalCount();
+                if (offset + pageSize < totalCount) nextPage = pageNumber + 1;
+
+                // 2) 해당 페이지의 게시물만 조회 후 색인 순위대로 정렬
+                Map<Integer, GetBoardListResultSet> boardMap = new HashMap<>();
+                if (!boardNumbers.isEmpty()) {
+                    for (GetBoardListResultSet resultSet : boardListRepository.getBoardList(boardNumbers))
+                        boardMap.put(resultSet.getBoardNumber(), resultSet);
+                }
+
+                boardListViewEntities = new ArrayList<>();
+                for (Integer boardNumber : boardNumbers) {
+                    GetBoardListResultSet resultSet = boardMap.get(boardNumber);
+                    if (resultSet != null) boardListViewEntities.add(resultSet);
+                }
+            } else {
+                // 색인 적재 전에는 작성/수정 시 미리 정규화해 둔 search_text 를 DB 에서 직접 검색
+                // (FULLTEXT 색인으로 찾을 수 없는 한 글자 단어가 있으면 LIKE 전체 스캔)
+                String keyword = SearchTextNormalizer.likeKeyword(searchWord);
+                String fullTextKeyword = SearchTextNormalizer.fullTextKeyword(searchWord);
+                String unindexedKeyword = SearchTextNormalizer.escapeLike(searchWord);
+                boolean includeUnindexed = !searchTextBackfill.isDone();
+
+                if (fullTextKeyword != null)
+                    boardListViewEntities = boardListRepository.getSearchList(fullTextKeyword, keyword, unindexedKeyword, includeUnindexed, pageSize + 1, offset);
+                else
+                    boardListViewEntities = boardListRepository.getSearchListByLike(keyword, unindexedKeyword, includeUnindexed, pageSize + 1, offset);
+
+                // 전체 건수는 첫 페이지에서만 계산 (이어지는 페이지는 null)
+                if (pageNumber == 0) {
+                    if (fullTextKeyword != null)
+                        totalCount = boardListRepository.countSearchList(fullTextKeyword, keyword, unindexedKeyword, includeUnindexed);
+                    else
+                        totalCount = boardListRepository.countSearchListByLike(keyword, unindexedKeyword, includeUnindexed);
+                }
+                if (boardListViewEntities.size() > pageSize) {
+                    boardListViewEntities = boardListViewEntities.subList(0, pageSize);
+                    nextPage = pageNumber + 1;
+                }
+                boardListViewEntities = boardPurgeQueue.exclude(boardListViewEntities);
             }
+
+            // 3) 검색 로그는 큐에 넣고 백그라운드에서 일괄 저장 (응답 지연에 포함되지 않음)
+            // 이어지는 페이지 요청은 같은 검색이므로 첫 페이지에서만 기록
+            if (pageNumber == 0) writeSearchLog(searchWord, preSearchWord);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
 
-        return GetSearchBoardListResponseDto.success(boardListViewEntities);
+        return GetSearchBoardListResponseDto.success(boardListViewEntities, nextPage, totalCount, imageUrlResolver);
+    }
+
+    private void writeSearchLog(String searchWord, String preSearchWord) {
+        SearchLogEntity searchLogEntity = new SearchLogEntity(searchWord, preSearchWord, false);
+        searchLogWriter.write(searchLogEntity);
+
+        boolean relation = preSearchWord != null;
+        if (relation) {
+            searchLogEntity = new SearchLogEntity(preSearchWord, searchWord, relation);
+            searchLogWriter.write(searchLogEntity);
+        }
     }
 
     @Override
-    public ResponseEntity<? super GetUserBoardListResponseDto> getUserBoardList(String email) {
-        List<BoardListViewEntity> boardListViewEntities;
+    public ResponseEntity<? super GetUserBoardListResponseDto> getUserBoardList(String email, String cursor, Integer size) {
+        UserBoardListCache.Page page;
 
         try {
 
-            boolean existedUser = userRepository.existsByEmail(email);
-            if (!existedUser)
-                return GetUserBoardListResponseDto.notExistUser();
+            int pageSize = toPageSize(size);
+
+            // 기본 크기의 첫 페이지만 작성자별로 캐시
+            if (cursor == null && pageSize == DEFAULT_PAGE_SIZE) {
+                page = userBoardListCache.get(email, key -> getUserBoardPage(key, null, pageSize));
+            } else {
+                PageCursor pageCursor = null;
+                if (cursor != null) {
+                    pageCursor = PageCursor.decode(cursor);
+                    if (pageCursor == null)
+                        return ResponseDto.validationFailed();
+                }
+                page = getUserBoardPage(email, pageCursor, pageSize);
+            }
 
-            boardListViewEntities = boardListViewRepository.findByWriterEmailOrderByWriteDatetimeDesc(email);
+            if (page == null)
+                return GetUserBoardListResponseDto.notExistUser();
 
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
         }
-        return GetUserBoardListResponseDto.success(boardListViewEntities);
+
+        List<GetBoardListResultSet> boardListViewEntities = boardPurgeQueue.exclude(page.getBoardList());
+        return GetUserBoardListResponseDto.success(boardListViewEntities, page.getNextCursor(), page.getTotalCount(), imageUrlResolver);
+    }
+
+    // 사용자 테이블 기준 LEFT JOIN 으로 존재 확인과 목록 조회를 한 번에 처리
+    // 행이 없으면 존재하지 않는 사용자(null 반환), boardNumber 가 null 인 행은 게시물이 없는 사용자
+    private UserBoardListCache.Page getUserBoardPage(String email, PageCursor pageCursor, int pageSize) {
+        List<GetBoardListResultSet> resultSets = pageCursor == null
+            ? boardListRepository.getUserBoardList(email, pageSize + 1)
+            : boardListRepository.getUserBoardListAfter(
+                email, pageCursor.getWriteDatetime(), pageCursor.getNumber(), pageSize + 1
+            );
+
+        if (resultSets.isEmpty())
+            return null;
+
+        List<GetBoardListResultSet> boardListViewEntities = new ArrayList<>();
+        for (GetBoardListResultSet resultSet : resultSets) {
+            if (resultSet.getBoardNumber() != null) boardListViewEntities.add(resultSet);
+        }
+
+        String nextCursor = null;
+        if (boardListViewEntities.size() > pageSize) {
+            boardListViewEntities = boardListViewEntities.subList(0, pageSize);
+            GetBoardListResultSet last = boardListViewEntities.get(pageSize - 1);
+            nextCursor = PageCursor.encode(last.getWriteDatetime(), last.getBoardNumber());
+        }
+
+        // 전체 게시물 수는 첫 페이지에서만 계산 (게시물이 한 페이지 안이면 COUNT 없이 목록 크기)
+        Integer totalCount = null;
+        if (pageCursor == null)
+            totalCount = nextCursor == null ? boardListViewEntities.size() : boardListRepository.countUserBoardList(email);
+
+        return new UserBoardListCache.Page(List.copyOf(boardListViewEntities), nextCursor, totalCount);
     }
 
     @Override
@@ -223,24 +496,32 @@ public class BoardServiceImpl implements BoardService {
 
         try {
 
-            boolean existedUser = userRepository.existsByEmail(email);
+            boolean existedUser = authenticatedUserCache.exists(email);
             if (!existedUser)
                 return PostBoardResponseDto.notExistUser();
 
             BoardEntity boardEntity = new BoardEntity(dto, email);
-            boardRepository.save(boardEntity);
+            List<String> boardImageList = dto.getBoardImageList();
 
-            int boardNumber = boardEntity.getBoardNumber();
+            // 게시물/이미지 저장, 업로드 파일 참조 수 증가, 목록 행 생성을 하나의 트랜잭션으로 처리
+            transactionTemplate.executeWithoutResult(status -> {
+                boardRepository.save(boardEntity);
 
-            List<String> boardImageList = dto.getBoardImageList();
-            List<ImageEntity> imageEntities = new ArrayList<>();
+                int boardNumber = boardEntity.getBoardNumber();
+                List<ImageEntity> imageEntities = new ArrayList<>();
+                for (String image : boardImageList) {
+                    ImageEntity imageEntity = new ImageEntity(boardNumber, image);
+                    imageEntities.add(imageEntity);
+                }
 
-            for (String image : boardImageList) {
-                ImageEntity imageEntity = new ImageEntity(boardNumber, image);
-                imageEntities.add(imageEntity);
-            }
+                imageRepository.saveAll(imageEntities);
+                contentAddressedFileStore.attach(boardImageList);
+                // INSERT ... SELECT 가 board/image 를 읽으므로 먼저 반영
+                boardRepository.flush();
+                boardListRepository.refresh(boardNumber);
 
-            imageRepository.saveAll(imageEntities);
+                domainEventPublisher.publish(new BoardPostedEvent(boardNumber, email, boardEntity.getWriteDatetime()));
+            });
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -254,19 +535,27 @@ public class BoardServiceImpl implements BoardService {
     public ResponseEntity<? super PostCommentResponseDto> postComment(PostCommentRequestDto dto, Integer boardNumber, String email) {
 
         try {
-            BoardEntity boardEntity = boardRepository.findByBoardNumber(boardNumber);
-            if (boardEntity == null)
-                return PostCommentResponseDto.notExistBoard();
-
-            boolean existedUser = userRepository.existsByEmail(email);
+            boolean existedUser = authenticatedUserCache.exists(email);
             if (!existedUser)
                 return PostCommentResponseDto.notExistUser();
 
-            CommentEntity commentEntity = new CommentEntity(dto, boardNumber, email);
-            commentRepository.save(commentEntity);
+            if (boardPurgeQueue.isPending(boardNumber))
+                return PostCommentResponseDto.notExistBoard();
+
+            // 댓글 수 증가(SQL 원자적 증가)로 게시물 존재를 함께 확인하고, 댓글 저장과 하나의 트랜잭션으로 처리
+            Boolean existedBoard = transactionTemplate.execute(status -> {
+                if (boardRepository.increaseCommentCount(boardNumber) == 0)
+                    return false;
+                boardListRepository.increaseCommentCount(boardNumber);
 
-            boardEntity.increaseCommentCount();
-            boardRepository.save(boardEntity);
+                CommentEntity commentEntity = new CommentEntity(dto, boardNumber, email);
+                commentRepository.save(commentEntity);
+
+                domainEventPublisher.publish(new CommentPostedEvent(boardNumber, commentEntity.getCommentNumber(), email));
+                return true;
+            });
+            if (!Boolean.TRUE.equals(existedBoard))
+                return PostCommentResponseDto.notExistBoard();
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -280,25 +569,36 @@ public class BoardServiceImpl implements BoardService {
 
         try {
 
-            boolean existedUser = userRepository.existsByEmail(email);
+            boolean existedUser = authenticatedUserCache.exists(email);
             if (!existedUser)
                 return PutFavoriteResponseDto.notExistUser();
 
-            BoardEntity boardEntity = boardRepository.findByBoardNumber(boardNumber);
-            if (boardEntity == null)
+            if (boardPurgeQueue.isPending(boardNumber))
                 return PutFavoriteResponseDto.notExistBoard();
 
-            FavoriteEntity favoriteEntity = favoriteRepository.findByBoardNumberAndUserEmail(boardNumber, email);
-            if (favoriteEntity == null) {
-                favoriteEntity = new FavoriteEntity(email, boardNumber);
-                favoriteRepository.save(favoriteEntity);
-                boardEntity.increaseFavoriteCount();
-            } else {
-                favoriteRepository.delete(favoriteEntity);
-                boardEntity.decreaseFavoriteCount();
-            }
-
-            boardRepository.save(boardEntity);
+            // 좋아요 추가/삭제와 좋아요 수 증감(SQL 원자적 증감)을 하나의 트랜잭션으로 처리
+            // 별도 존재 확인 없이, 추가 후 좋아요 수 증가 대상이 없으면 게시물이 없는 것으로 보고 롤백
+            Boolean favorite = transactionTemplate.execute(status -> {
+                Boolean added = favoriteRepository.toggle(new FavoritePk(email, boardNumber));
+                if (added == null)
+                    return null;
+
+                if (!added) {
+                    boardRepository.decreaseFavoriteCount(boardNumber);
+                    boardListRepository.decreaseFavoriteCount(boardNumber);
+                } else {
+                    if (boardRepository.increaseFavoriteCount(boardNumber) == 0) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    boardListRepository.increaseFavoriteCount(boardNumber);
+                }
+
+                domainEventPublisher.publish(new FavoriteToggledEvent(boardNumber, email, added));
+                return added;
+            });
+            if (favorite == null)
+                return PutFavoriteResponseDto.notExistBoard();
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -313,33 +613,39 @@ public class BoardServiceImpl implements BoardService {
 
         try {
 
-            BoardEntity boardEntity = boardRepository.findByBoardNumber(boardNumber);
-            if (boardEntity == null)
-                return PatchBoardResponseDto.notExistBoard();
-
-            boolean existedUser = userRepository.existsByEmail(email);
+            boolean existedUser = authenticatedUserCache.exists(email);
             if (!existedUser)
                 return PatchBoardResponseDto.notExistUser();
 
-            String writerEmail = boardEntity.getWriterEmail();
-            boolean isWriter = writerEmail.equals(email);
-            if (!isWriter)
-                return PatchBoardResponseDto.forbidden();
-
-            boardEntity.patchBoard(dto);
-            boardRepository.save(boardEntity);
+            if (boardPurgeQueue.isPending(boardNumber))
+                return PatchBoardResponseDto.notExistBoard();
 
-            imageRepository.deleteByBoardNumber(boardNumber);
             List<String> boardImageList = dto.getBoardImageList();
-            List<ImageEntity> imageEntities = new ArrayList<>();
 
-            for (String boardImage : boardImageList) {
-                ImageEntity imageEntity = new ImageEntity(boardNumber, boardImage);
-                imageEntities.add(imageEntity);
+            // 작성자 조건부 수정으로 존재/권한 확인과 수정을 한 번에 처리하고,
+            // 변경된 이미지 행과 업로드 파일 참조 수 갱신까지 하나의 트랜잭션으로 처리
+            Boolean patched = transactionTemplate.execute(status -> {
+                String searchText = SearchTextNormalizer.searchText(dto.getTitle(), dto.getContent());
+                if (boardRepository.patchBoard(boardNumber, email, dto.getTitle(), dto.getContent(), searchText) == 0)
+                    return false;
+
+                List<ImageEntity> previousImages = imageRepository.findByBoardNumberOrderBySequenceAsc(boardNumber);
+                patchImages(boardNumber, previousImages, boardImageList);
+                imageRepository.flush();
+                boardListRepository.refresh(boardNumber);
+
+                domainEventPublisher.publish(new BoardPatchedEvent(boardNumber, email));
+                return true;
+            });
+
+            // 실패한 경우에만 원인 구분을 위해 작성자 조회
+            if (!Boolean.TRUE.equals(patched)) {
+                String writerEmail = boardRepository.getWriterEmail(boardNumber);
+                if (writerEmail == null)
+                    return PatchBoardResponseDto.notExistBoard();
+                return PatchBoardResponseDto.forbidden();
             }
 
-            imageRepository.saveAll(imageEntities);
-
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
@@ -348,17 +654,76 @@ public class BoardServiceImpl implements BoardService {
         return PatchBoardResponseDto.success();
     }
 
+    // 기존 이미지 행의 순서를 유지하면서 바뀐 행만 삭제/추가 (목록이 같으면 쓰기 없음)
+    // 새 목록의 앞부분 중 기존 목록의 부분 수열로 맞출 수 있는 최대 길이만큼 기존 행을 유지하고 나머지를 뒤에 추가
+    // sequence 는 인스턴스별로 미리 할당받은 구간에서 발급되어 기존 행보다 작을 수 있으므로,
+    // 추가된 행이 유지한 행보다 앞에 정렬되면 게시물의 이미지 행 전체를 목록 순서대로 다시 씀
+    private void patchImages(int boardNumber, List<ImageEntity> previousImages, List<String> boardImageList) {
+        int kept = 0;
+        int lastKeptSequence = Integer.MIN_VALUE;
+        List<Integer> keptSequences = new ArrayList<>();
+        List<Integer> removedSequences = new ArrayList<>();
+        List<String> removedImages = new ArrayList<>();
+
+        for (ImageEntity imageEntity : previousImages) {
+            if (kept < boardImageList.size() && imageEntity.getImage().equals(boardImageList.get(kept))) {
+                kept++;
+                lastKeptSequence = imageEntity.getSequence();
+                keptSequences.add(imageEntity.getSequence());
+                continue;
+            }
+            removedSequences.add(imageEntity.getSequence());
+            removedImages.add(imageEntity.getImage());
+        }
+
+        List<String> addedImages = boardImageList.subList(kept, boardImageList.size());
+        if (removedSequences.isEmpty() && addedImages.isEmpty())
+            return;
+
+        if (!removedSequences.isEmpty())
+            imageRepository.deleteAllByIdInBatch(removedSequences);
+
+        List<ImageEntity> imageEntities = new ArrayList<>();
+        for (String boardImage : addedImages) {
+            ImageEntity imageEntity = new ImageEntity(boardNumber, boardImage);
+            imageEntities.add(imageEntity);
+        }
+        imageRepository.saveAll(imageEntities);
+
+        // 한 인스턴스 안에서 발급되는 sequence 는 증가하므로 첫 추가 행만 확인
+        if (!imageEntities.isEmpty() && imageEntities.get(0).getSequence() < lastKeptSequence) {
+            List<Integer> rewrittenSequences = new ArrayList<>(keptSequences);
+            for (ImageEntity imageEntity : imageEntities) rewrittenSequences.add(imageEntity.getSequence());
+
+            imageRepository.flush();
+            imageRepository.deleteAllByIdInBatch(rewrittenSequences);
+
+            List<ImageEntity> rewrittenEntities = new ArrayList<>();
+            for (String boardImage : boardImageList) {
+                ImageEntity imageEntity = new ImageEntity(boardNumber, boardImage);
+                rewrittenEntities.add(imageEntity);
+            }
+            imageRepository.saveAll(rewrittenEntities);
+        }
+
+        // 참조 수는 실제로 추가/삭제된 URL 만큼만 변경 (다시 쓴 행의 URL 은 그대로)
+        contentAddressedFileStore.attach(addedImages);
+        contentAddressedFileStore.detach(removedImages);
+    }
+
     @Override
     public ResponseEntity<? super IncreaseViewCountResponseDto> increaseViewCount(Integer boardNumber) {
 
         try {
 
-            BoardEntity boardEntity = boardRepository.findByBoardNumber(boardNumber);
-            if (boardEntity == null)
+            // 존재 확인: 보통 직전 상세 조회로 캐시에 있으므로 DB 조회 없이 확인하고, 없을 때만 PK 조회
+            // 존재하지 않는 번호는 버퍼에 넣지 않음 (임의의 번호로 버퍼가 커지지 않도록)
+            if (boardPurgeQueue.isPending(boardNumber))
+                return IncreaseViewCountResponseDto.notExistBoard();
+            if (!boardDetailCache.contains(boardNumber) && !boardRepository.existsById(boardNumber))
                 return IncreaseViewCountResponseDto.notExistBoard();
 
-            boardEntity.increaseViewCount();
-            boardRepository.save(boardEntity);
+            viewCountBuffer.record(boardNumber);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -373,24 +738,30 @@ public class BoardServiceImpl implements BoardService {
 
         try {
 
-            boolean existedUser = userRepository.existsByEmail(email);
+            boolean existedUser = authenticatedUserCache.exists(email);
             if (!existedUser)
                 return DeleteBoardResponseDto.notExistUser();
 
-            BoardEntity boardEntity = boardRepository.findByBoardNumber(boardNumber);
-            if (boardEntity == null)
+            if (boardPurgeQueue.isPending(boardNumber))
                 return DeleteBoardResponseDto.notExistBoard();
 
-            String writerEmail = boardEntity.getWriterEmail();
-            boolean isWriter = writerEmail.equals(email);
-            if (!isWriter)
-                return DeleteBoardResponseDto.forbidden();
+            // 작성자 이메일 한 번의 조회로 존재/권한을 확인하고 같은 트랜잭션에서
+            // 종속 데이터와 게시물을 일괄 DELETE (지연 삭제 모드에서는 삭제 대기열에 기록만 함)
+            String writerEmail = transactionTemplate.execute(status -> {
+                String writer = boardRepository.getWriterEmail(boardNumber);
+                if (writer == null || !writer.equals(email))
+                    return writer;
+
+                boardPurgeQueue.delete(boardNumber);
 
-            imageRepository.deleteByBoardNumber(boardNumber);
-            commentRepository.deleteByBoardNumber(boardNumber);
-            favoriteRepository.deleteByBoardNumber(boardNumber);
+                domainEventPublisher.publish(new BoardDeletedEvent(boardNumber, writer));
+                return writer;
+            });
 
-            boardRepository.delete(boardEntity);
+            if (writerEmail == null)
+                return DeleteBoardResponseDto.notExistBoard();
+            if (!writerEmail.equals(email))
+                return DeleteBoardResponseDto.forbidden();
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,19 +1,36 @@
 package board.service.implement;
 
+import board.file.ContentAddressedFileStore;
+import board.file.ImageContentType;
+import board.file.ImageDerivativeGenerator;
+import board.file.ImageVariant;
 import board.service.FileService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.UUID;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 @Service
+@RequiredArgsConstructor
 public class FileServiceImpl implements FileService {
 
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+
+    // 파생본 재생성 요청 중인 원본 파일명 (같은 파일에 대한 중복 요청 방지)
+    private final Set<String> regenerating = ConcurrentHashMap.newKeySet();
+
     @Value( "${file.path}")
     private String filePath;
     @Value( "${file.url}")
@@ -24,31 +41,16 @@ public class FileServiceImpl implements FileService {
         if (file.isEmpty())
             return null;
 
-        String originalFileName = file.getOriginalFilename();
-        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String uuid = UUID.randomUUID().toString();
-        String saveFileName = uuid + extension;
-        String savePath = filePath + saveFileName;
-
-        try {
-            File saveDirectory = new File(filePath);
-            if (!saveDirectory.exists()) {
-                if (!saveDirectory.mkdirs()) {
-                    System.err.println("파일 업로드 디렉토리 생성 실패: " + filePath);
-                    return null;
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("디렉토리 생성 중 예외 발생: " + filePath);
-            e.printStackTrace();
+        // jpeg/png/gif/webp 외의 파일(svg, html 등)은 업로드 거부
+        if (ImageContentType.extensionOf(file.getOriginalFilename()) == null)
             return null;
-        }
-
 
+        // 같은 내용의 파일은 하나만 저장되고 같은 URL 을 반환 (브라우저 캐시 재사용)
+        String saveFileName;
         try {
-            file.transferTo(new File(savePath));
+            saveFileName = contentAddressedFileStore.store(file);
         } catch (IOException e) {
-            System.err.println("파일 전송(transferTo) 중 실패: " + savePath);
+            System.err.println("파일 저장 중 실패: " + file.getOriginalFilename());
             e.printStackTrace();
             return null;
         }
@@ -57,17 +59,36 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
-    public Resource getImage(String fileName) {
-        Resource resource = null;
+    public Path getImage(String fileName, ImageVariant variant) {
+        // 업로드 디렉토리 밖의 파일에 접근하지 못하도록 파일명 검증
+        if (fileName == null || !FILE_NAME_PATTERN.matcher(fileName).matches())
+            return null;
 
-        try {
-            resource = new UrlResource("file:" + filePath + fileName);
-        } catch (Exception e) {
-            e.printStackTrace();
+        Path directory = Paths.get(filePath).toAbsolutePath().normalize();
+        Path image = directory.resolve(fileName).normalize();
+        if (!image.startsWith(directory) || !Files.isRegularFile(image))
             return null;
+
+        // 파생본이 아직 생성되지 않았으면 원본 반환
+        // 업로드 시 대기열 초과로 빠진 파생본도 여기서 다시 생성 요청하여 채움
+        if (variant != null) {
+            Path derivative = image.resolveSibling(variant.fileName(fileName));
+            if (Files.isRegularFile(derivative))
+                return derivative;
+            regenerate(fileName, image);
         }
 
-        return resource;
+        return image;
+    }
+
+    private void regenerate(String fileName, Path image) {
+        if (!regenerating.add(fileName)) return;
+
+        try {
+            imageDerivativeGenerator.generate(image).whenComplete((result, exception) -> regenerating.remove(fileName));
+        } catch (TaskRejectedException e) {
+            regenerating.remove(fileName);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -6,11 +6,13 @@ import board.dto.response.search.GetRelationListResponseDto;
 import board.repository.SearchLogRepository;
 import board.repository.resultSet.GetPopularListResultSet;
 import board.repository.resultSet.GetRelationListResultSet;
+import board.search.SearchWordRollup;
 import board.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -18,13 +20,17 @@ import java.util.List;
 public class SearchServiceImpl implements SearchService {
 
     private final SearchLogRepository searchLogRepository;
+    private final SearchWordRollup searchWordRollup;
 
     @Override
     public ResponseEntity<? super GetPopularListResponseDto> getPopularList() {
         List<GetPopularListResultSet> resultSets;
 
         try {
-            resultSets = searchLogRepository.getPopularList();
+            if (searchWordRollup.isReady())
+                resultSets = searchWordRollup.getPopularList();
+            else
+                resultSets = searchLogRepository.getPopularList();
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
@@ -38,7 +44,14 @@ public class SearchServiceImpl implements SearchService {
         List<GetRelationListResultSet> resultSets;
 
         try {
-            resultSets = searchLogRepository.getRelationList(searchWord);
+            // 요약 테이블이 window 를 다 채우기 전에는 집계가 없는 검색어를 search_log 로 보충
+            if (searchWordRollup.isReady())
+                resultSets = searchWordRollup.getRelationList(searchWord);
+            else
+                resultSets = Collections.emptyList();
+
+            if (resultSets.isEmpty() && (!searchWordRollup.isReady() || searchWordRollup.isWarming()))
+                resultSets = searchLogRepository.getRelationList(searchWord);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
@@ -1,5 +1,6 @@
 package board.service.implement;
 
+import board.cache.AuthenticatedUserCache;
 import board.dto.request.user.PatchNicknameRequestDto;
 import board.dto.request.user.PatchProfileImageRequestDto;
 import board.dto.response.ResponseDto;
@@ -8,17 +9,30 @@ import board.dto.response.user.GetUserResponseDto;
 import board.dto.response.user.PatchNicknameResponseDto;
 import board.dto.response.user.PatchProfileImageResponseDto;
 import board.entity.UserEntity;
+import board.event.DomainEventPublisher;
+import board.event.UserProfileChangedEvent;
+import board.file.ContentAddressedFileStore;
+import board.repository.BoardListRepository;
 import board.repository.UserRepository;
 import board.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final BoardListRepository boardListRepository;
+    private final ContentAddressedFileStore contentAddressedFileStore;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     public ResponseEntity<? super GetUserResponseDto> getUser(String email) {
@@ -27,8 +41,11 @@ public class UserServiceImpl implements UserService {
         try {
 
             userEntity = userRepository.findByEmail(email);
-            if (userEntity == null)
+            // 인증 캐시에 남아 있을 수 있는 사용자 존재 여부도 제거
+            if (userEntity == null) {
+                authenticatedUserCache.invalidate(email);
                 return GetUserResponseDto.notExistUser();
+            }
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -43,8 +60,10 @@ public class UserServiceImpl implements UserService {
 
         try {
             userEntity = userRepository.findByEmail(email);
-            if (userEntity == null)
+            if (userEntity == null) {
+                authenticatedUserCache.invalidate(email);
                 return GetSignInUserResponseDto.notExistUser();
+            }
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -57,8 +76,10 @@ public class UserServiceImpl implements UserService {
     public ResponseEntity<? super PatchNicknameResponseDto> patchNickname(PatchNicknameRequestDto dto, String email) {
         try {
             UserEntity userEntity = userRepository.findByEmail(email);
-            if (userEntity == null)
+            if (userEntity == null) {
+                authenticatedUserCache.invalidate(email);
                 return PatchNicknameResponseDto.notExistUser();
+            }
 
             String newNickname = dto.getNickname();
             if (!newNickname.equals(userEntity.getNickname())) {
@@ -68,7 +89,13 @@ public class UserServiceImpl implements UserService {
             }
 
             userEntity.setNickname(newNickname);
-            userRepository.save(userEntity);
+
+            // 닉네임 변경과 목록 행의 작성자 정보 갱신을 하나의 트랜잭션으로 처리
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.save(userEntity);
+                boardListRepository.updateWriter(email, newNickname, userEntity.getProfileImage());
+                domainEventPublisher.publish(new UserProfileChangedEvent(email));
+            });
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -83,12 +110,25 @@ public class UserServiceImpl implements UserService {
         try {
 
             UserEntity userEntity = userRepository.findByEmail(email);
-            if (userEntity == null)
+            if (userEntity == null) {
+                authenticatedUserCache.invalidate(email);
                 return PatchProfileImageResponseDto.notExistUser();
+            }
 
+            String previousProfileImage = userEntity.getProfileImage();
             String profileImage = dto.getProfileImage();
             userEntity.setProfileImage(profileImage);
-            userRepository.save(userEntity);
+
+            // 프로필 이미지 변경과 업로드 파일 참조 수, 목록 행의 작성자 정보 갱신을 하나의 트랜잭션으로 처리
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.save(userEntity);
+                boardListRepository.updateWriter(email, userEntity.getNickname(), profileImage);
+                if (!Objects.equals(previousProfileImage, profileImage)) {
+                    contentAddressedFileStore.attach(Collections.singletonList(profileImage));
+                    contentAddressedFileStore.detach(Collections.singletonList(previousProfileImage));
+                }
+                domainEventPublisher.publish(new UserProfileChangedEvent(email));
+            });
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -0,0 +1,13 @@
+-- 인기/연관 검색어 1시간 단위 집계 (SearchWordRollup)
+-- relation_word 가 빈 문자열이면 인기 검색어 집계
+CREATE TABLE search_word_count (
+    bucket_hour DATETIME NOT NULL,
+    search_word VARCHAR(255) NOT NULL,
+    relation_word VARCHAR(255) NOT NULL DEFAULT '',
+    search_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_hour, search_word, relation_word),
+    -- 인기 검색어: relation_word = '' 인 최근 구간만 읽음 (search_count 까지 포함하여 테이블 행을 읽지 않음)
+    INDEX search_word_count_popular_idx (relation_word, bucket_hour, search_word, search_count),
+    -- 연관 검색어: 검색어별 최근 구간
+    INDEX search_word_count_relation_idx (search_word, bucket_hour, relation_word, search_count)
+);
@@ -0,0 +1,9 @@
+-- 내용 해시 기반 업로드 파일의 참조 수 (ContentAddressedFileStore)
+-- 정리 작업이 참조 수 0 이고 유예 시간이 지난 파일만 찾도록 (reference_count, update_datetime) 인덱스
+CREATE TABLE stored_file (
+    file_name VARCHAR(80) NOT NULL,
+    reference_count INT NOT NULL DEFAULT 0,
+    update_datetime DATETIME NOT NULL,
+    PRIMARY KEY (file_name),
+    INDEX stored_file_orphan_idx (reference_count, update_datetime)
+);
@@ -0,0 +1,8 @@
+-- 지연 삭제 모드에서 삭제 요청되었으나 댓글/좋아요/이미지 정리가 끝나지 않은 게시물 (BoardPurgeQueue)
+-- 기동 시 요청 순서대로 다시 읽으므로 request_datetime 인덱스
+CREATE TABLE board_purge (
+    board_number INT NOT NULL,
+    request_datetime DATETIME NOT NULL,
+    PRIMARY KEY (board_number),
+    INDEX board_purge_request_idx (request_datetime)
+);
@@ -0,0 +1,17 @@
+-- board/comment/image 번호의 테이블 기반 pooled 할당 (@TableGenerator, JpaConfig.ID_ALLOCATION_SIZE = 50)
+-- 기존 AUTO_INCREMENT 로 발급된 번호와 겹치지 않도록 시작값을 현재 최대 번호 + 51 로 설정
+-- (allocationSize 를 바꾸면 이 값도 함께 맞춰야 하며, 이미 적용된 환경에서는 next_val 을 새 값 이상으로 올리는 마이그레이션 추가)
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'board', COALESCE(MAX(board_number), 0) + 51 FROM board;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'comment', COALESCE(MAX(comment_number), 0) + 51 FROM comment;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'image', COALESCE(MAX(sequence), 0) + 51 FROM image;
@@ -0,0 +1,10 @@
+-- 검색용으로 미리 정규화한 제목/본문 (SearchTextNormalizer.searchText)
+-- 기존 게시물은 NULL 로 추가되고 기동 후 SearchTextBackfill 이 채움
+ALTER TABLE board ADD COLUMN search_text MEDIUMTEXT NULL;
+
+-- 검색 색인 적재 전 대체 검색용 FULLTEXT 색인 (ngram 파서, 서버 기본 ngram_token_size = 2)
+-- 기본 불용어 목록에 한 글자 단어(a, i 등)가 있어 ngram 파서에서는 이를 포함한 토큰이 모두 빠지므로 불용어 없이 생성
+-- (불용어 설정은 색인 생성 시점에 고정됨)
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE board ADD FULLTEXT INDEX board_search_text_idx (search_text) WITH PARSER ngram;
+SET SESSION innodb_ft_enable_stopword = ON;
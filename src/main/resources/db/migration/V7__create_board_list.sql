@@ -0,0 +1,20 @@
+-- 목록 조회용 비정규화 테이블 (board + user + 대표 이미지, BoardListInitializer 가 기동 시 누락분 적재)
+-- content 는 미리보기용 앞부분만 저장 (BoardListRepository.CONTENT_PREVIEW_LENGTH = 1000)
+CREATE TABLE board_list (
+    board_number INT NOT NULL,
+    title TEXT NOT NULL,
+    content VARCHAR(1000) NOT NULL,
+    title_image TEXT,
+    favorite_count INT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
+    view_count INT NOT NULL DEFAULT 0,
+    write_datetime DATETIME NOT NULL,
+    writer_email VARCHAR(255) NOT NULL,
+    writer_nickname VARCHAR(255) NOT NULL,
+    writer_profile_image TEXT,
+    PRIMARY KEY (board_number),
+    -- 최신 목록 keyset, Top 3 기간 조건
+    INDEX board_list_latest_idx (write_datetime, board_number),
+    -- 사용자 게시물 목록 keyset/전체 수, 작성자 정보 변경
+    INDEX board_list_writer_idx (writer_email, write_datetime, board_number)
+);
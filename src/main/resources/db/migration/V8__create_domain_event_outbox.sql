@@ -0,0 +1,20 @@
+-- 도메인 이벤트 outbox (DomainEventPublisher 가 쓰기 트랜잭션 안에서 기록, OutboxDispatcher 가 event_id 순으로 전달)
+CREATE TABLE domain_event_outbox (
+    event_id BIGINT NOT NULL AUTO_INCREMENT,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    create_datetime DATETIME NOT NULL,
+    PRIMARY KEY (event_id),
+    -- 보관 기간이 지난 행 정리
+    INDEX domain_event_outbox_create_datetime_idx (create_datetime)
+);
+
+-- 반복해서 전달에 실패했거나 읽을 수 없는 이벤트 (outbox 정리와 별개로 보관, 확인 후 수동 삭제)
+CREATE TABLE domain_event_dead_letter (
+    event_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    error_message VARCHAR(1000) NOT NULL,
+    create_datetime DATETIME NOT NULL,
+    PRIMARY KEY (event_id)
+);
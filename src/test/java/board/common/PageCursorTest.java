@@ -0,0 +1,50 @@
+package board.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsWriteDatetimeAndNumber() {
+        String token = PageCursor.encode("2024-01-31 23:59:59", 42);
+
+        PageCursor pageCursor = PageCursor.decode(token);
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(pageCursor).isNotNull();
+        assertThat(pageCursor.getWriteDatetime()).isEqualTo("2024-01-31 23:59:59");
+        assertThat(pageCursor.getNumber()).isEqualTo(42);
+    }
+
+    @Test
+    void emptyTokenMeansFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+        assertThat(PageCursor.decode("   ")).isNull();
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64() {
+        assertThat(PageCursor.decode("not a cursor!")).isNull();
+        assertThat(PageCursor.decode("%%%")).isNull();
+    }
+
+    @Test
+    void rejectsTokensWithoutDatetimeOrNumber() {
+        assertThat(PageCursor.decode(token("2024-01-01 00:00:00"))).isNull();
+        assertThat(PageCursor.decode(token("|42"))).isNull();
+        assertThat(PageCursor.decode(token("2024-01-01 00:00:00|"))).isNull();
+        assertThat(PageCursor.decode(token("2024-01-01 00:00:00|abc"))).isNull();
+        assertThat(PageCursor.decode(token("2024-01-01 00:00:00|99999999999"))).isNull();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,115 @@
+package board.counter;
+
+import board.event.DomainEvent;
+import board.event.DomainEventPublisher;
+import board.event.ViewRecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ViewCountBufferTest {
+
+    private static final String BOARD_UPDATE =
+        "UPDATE board SET view_count = view_count + CASE board_number WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END WHERE board_number IN (?, ?)";
+    private static final String BOARD_LIST_UPDATE =
+        "UPDATE board_list SET view_count = view_count + CASE board_number WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END WHERE board_number IN (?, ?)";
+    private static final String SINGLE_BOARD_UPDATE =
+        "UPDATE board SET view_count = view_count + CASE board_number WHEN ? THEN ? ELSE 0 END WHERE board_number IN (?)";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private DomainEventPublisher domainEventPublisher;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        domainEventPublisher = mock(DomainEventPublisher.class);
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionTemplate, domainEventPublisher);
+    }
+
+    @Test
+    void flushWritesOneUpdatePerTableAndOneEvent() {
+        doAnswer(runCallback()).when(transactionTemplate).executeWithoutResult(any());
+        viewCountBuffer.record(2);
+        viewCountBuffer.record(1);
+        viewCountBuffer.record(2);
+        viewCountBuffer.record(2);
+
+        viewCountBuffer.flush();
+
+        // 게시물 번호 순
+        verify(jdbcTemplate).update(BOARD_UPDATE, 1, 1L, 2, 3L, 1, 2);
+        verify(jdbcTemplate).update(BOARD_LIST_UPDATE, 1, 1L, 2, 3L, 1, 2);
+
+        ArgumentCaptor<DomainEvent> event = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(domainEventPublisher).publish(event.capture());
+        assertThat(event.getValue()).isInstanceOf(ViewRecordedEvent.class);
+        assertThat(((ViewRecordedEvent) event.getValue()).getViewCounts()).isEqualTo(Map.of(1, 1L, 2, 3L));
+    }
+
+    @Test
+    void flushWithoutViewsDoesNothing() {
+        viewCountBuffer.flush();
+
+        verifyNoInteractions(transactionTemplate, jdbcTemplate, domainEventPublisher);
+    }
+
+    @Test
+    void failedFlushKeepsCountsForTheNextFlush() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("database unavailable");
+        }).doAnswer(runCallback()).when(transactionTemplate).executeWithoutResult(any());
+
+        viewCountBuffer.record(1);
+        viewCountBuffer.record(1);
+        viewCountBuffer.flush();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+
+        viewCountBuffer.record(1);
+        viewCountBuffer.flush();
+
+        verify(jdbcTemplate).update(SINGLE_BOARD_UPDATE, 1, 3L, 1);
+        verify(domainEventPublisher, times(1)).publish(any());
+    }
+
+    @Test
+    void countsAreNotFlushedTwice() {
+        doAnswer(runCallback()).when(transactionTemplate).executeWithoutResult(any());
+        viewCountBuffer.record(1);
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+
+        verify(jdbcTemplate).update(SINGLE_BOARD_UPDATE, 1, 1L, 1);
+        verify(domainEventPublisher, times(1)).publish(any());
+    }
+
+    private static Answer<Void> runCallback() {
+        return invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        };
+    }
+
+}
@@ -0,0 +1,202 @@
+package board.event;
+
+import board.config.BackgroundThreadFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    // event_id -> {event_type, payload}
+    private final Map<Long, String[]> outbox = new ConcurrentSkipListMap<>();
+    // 전달에 성공한 묶음의 게시물 번호
+    private final List<Integer> delivered = new CopyOnWriteArrayList<>();
+    // 이 게시물 번호가 포함된 묶음은 항상 실패
+    private volatile int failingBoardNumber = -1;
+    private volatile long lastCursor = -1;
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        doAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            RowMapper<Object> rowMapper = (RowMapper<Object>) arguments[1];
+            long cursor = ((Number) arguments[arguments.length - 2]).longValue();
+            int limit = ((Number) arguments[arguments.length - 1]).intValue();
+            lastCursor = cursor;
+
+            List<Object> rows = new ArrayList<>();
+            for (Map.Entry<Long, String[]> row : outbox.entrySet()) {
+                if (row.getKey() <= cursor) continue;
+                if (rows.size() == limit) break;
+
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getLong("event_id")).thenReturn(row.getKey());
+                when(resultSet.getString("event_type")).thenReturn(row.getValue()[0]);
+                when(resultSet.getString("payload")).thenReturn(row.getValue()[1]);
+                rows.add(rowMapper.mapRow(resultSet, rows.size()));
+            }
+            return rows;
+        }).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stop();
+    }
+
+    @Test
+    void skipsAMissingEventIdAfterTheGapTimeout() throws Exception {
+        patched(1);
+        patched(3);
+        start(200, 5);
+
+        await(() -> lastCursor == 3);
+
+        // 3 은 먼저 한 번만 전달되고, 2 는 gap-timeout 후 롤백된 번호로 보고 넘김
+        assertThat(delivered).containsExactly(1, 3);
+        assertThat(meterRegistry.counter("outbox.events.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void deliversALateCommitBeforeTheGapTimeout() throws Exception {
+        patched(1);
+        patched(3);
+        start(60000, 5);
+
+        await(() -> delivered.size() == 2);
+        // 늦게 커밋된 번호
+        patched(2);
+        dispatcher.wakeUp();
+
+        await(() -> lastCursor == 3);
+        assertThat(delivered).containsExactly(1, 3, 2);
+        assertThat(meterRegistry.counter("outbox.events.skipped").count()).isZero();
+    }
+
+    @Test
+    void deadLettersTheEventThatKeepsFailingAndDeliversTheRest() throws Exception {
+        failingBoardNumber = 2;
+        patched(1);
+        patched(2);
+        patched(3);
+        start(60000, 2);
+
+        await(() -> lastCursor == 3);
+        stop();
+
+        // max-attempts 번 묶음 전달에 실패한 뒤 하나씩 전달
+        assertThat(delivered).containsExactly(1, 3);
+        assertThat(meterRegistry.counter("outbox.events.dead_lettered").count()).isEqualTo(1);
+        verify(jdbcTemplate).update(
+            startsWith("INSERT INTO domain_event_dead_letter"),
+            eq(2L), eq("BoardPatchedEvent"), anyString(), anyString(), anyString()
+        );
+    }
+
+    @Test
+    void deadLettersAnUnreadablePayloadWithoutBlockingTheBatch() throws Exception {
+        patched(1);
+        outbox.put(2L, new String[] { "BoardPatchedEvent", "{not json" });
+        patched(3);
+        start(60000, 5);
+
+        await(() -> lastCursor == 3);
+        stop();
+
+        assertThat(delivered).containsExactly(1, 3);
+        verify(jdbcTemplate).update(
+            startsWith("INSERT INTO domain_event_dead_letter"),
+            eq(2L), eq("BoardPatchedEvent"), eq("{not json"), eq("unreadable payload"), anyString()
+        );
+    }
+
+    @Test
+    void unknownEventTypesAreSkippedWithoutDeadLettering() throws Exception {
+        patched(1);
+        outbox.put(2L, new String[] { "RemovedEvent", "{}" });
+        start(60000, 5);
+
+        await(() -> lastCursor == 2);
+        stop();
+
+        assertThat(delivered).containsExactly(1);
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO domain_event_dead_letter"), any(Object[].class));
+    }
+
+    private void start(long gapTimeoutMs, int maxAttempts) {
+        DomainEventHandler handler = events -> {
+            List<Integer> boardNumbers = new ArrayList<>();
+            for (DomainEvent event : events) {
+                int boardNumber = ((BoardPatchedEvent) event).getBoardNumber();
+                if (boardNumber == failingBoardNumber) throw new IllegalStateException("handler failed");
+                boardNumbers.add(boardNumber);
+            }
+            delivered.addAll(boardNumbers);
+        };
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DomainEventHandler> handlerProvider = mock(ObjectProvider.class);
+        when(handlerProvider.orderedStream()).thenReturn(Stream.of(handler));
+
+        dispatcher = new OutboxDispatcher(
+            jdbcTemplate, new ObjectMapper(), handlerProvider, new BackgroundThreadFactory(false), meterRegistry,
+            200, 20, gapTimeoutMs, 24, maxAttempts
+        );
+        dispatcher.start();
+    }
+
+    // 전달 스레드를 멈춘 뒤 mock 호출을 확인
+    private void stop() throws InterruptedException {
+        if (dispatcher == null) return;
+        dispatcher.stop();
+        dispatcher = null;
+    }
+
+    private void patched(int boardNumber) {
+        outbox.put((long) boardNumber, new String[] {
+            "BoardPatchedEvent", "{\"boardNumber\":" + boardNumber + ",\"writerEmail\":\"writer@example.com\"}"
+        });
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
@@ -0,0 +1,141 @@
+package board.ranking;
+
+import board.repository.BoardListRepository;
+import board.repository.BoardRepository;
+import board.repository.resultSet.GetBoardListResultSet;
+import board.repository.resultSet.GetBoardRankingResultSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class Top3BoardRankingTest {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private BoardRepository boardRepository;
+    private Top3BoardRanking top3BoardRanking;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        BoardListRepository boardListRepository = mock(BoardListRepository.class);
+        when(boardListRepository.getBoardList(anyCollection())).thenAnswer(invocation -> {
+            List<GetBoardListResultSet> resultSets = new ArrayList<>();
+            for (Object boardNumber : invocation.<Collection<?>>getArgument(0)) {
+                GetBoardListResultSet resultSet = mock(GetBoardListResultSet.class);
+                when(resultSet.getBoardNumber()).thenReturn((Integer) boardNumber);
+                resultSets.add(resultSet);
+            }
+            return resultSets;
+        });
+        top3BoardRanking = new Top3BoardRanking(boardRepository, boardListRepository);
+    }
+
+    @Test
+    void ranksByFavoritesThenCommentsThenViews() {
+        List<GetBoardRankingResultSet> resultSets = List.of(
+            ranking(1, 5, 0, 0),
+            ranking(2, 5, 1, 0),
+            ranking(3, 1, 9, 100),
+            ranking(4, 5, 1, 10)
+        );
+        when(boardRepository.getRankingList(anyString())).thenReturn(resultSets);
+
+        top3BoardRanking.reconcile();
+
+        assertThat(top3()).containsExactly(4, 2, 1);
+    }
+
+    @Test
+    void incrementalUpdatesMoveBoardsIntoTheTop3() {
+        List<GetBoardRankingResultSet> resultSets = List.of(
+            ranking(1, 3, 0, 0),
+            ranking(2, 2, 0, 0),
+            ranking(3, 1, 0, 0),
+            ranking(4, 0, 0, 0)
+        );
+        when(boardRepository.getRankingList(anyString())).thenReturn(resultSets);
+        top3BoardRanking.reconcile();
+
+        top3BoardRanking.onFavorite(4, 1);
+        top3BoardRanking.onFavorite(4, 1);
+        top3BoardRanking.onComment(4);
+        top3BoardRanking.refresh();
+
+        assertThat(top3()).containsExactly(1, 4, 2);
+
+        top3BoardRanking.onBoardDeleted(1);
+        top3BoardRanking.refresh();
+
+        assertThat(top3()).containsExactly(4, 2, 3);
+    }
+
+    @Test
+    void changesDuringReconcileAreNotLost() {
+        when(boardRepository.getRankingList(anyString())).thenAnswer(invocation -> {
+            // DB 조회가 끝난 뒤, 교체 전에 들어온 증감 (조회 결과에는 없음)
+            top3BoardRanking.onFavorite(3, 10);
+            top3BoardRanking.onBoardPosted(5, now());
+            top3BoardRanking.onView(5, 1000);
+            return List.<GetBoardRankingResultSet>of(
+                ranking(1, 3, 0, 0),
+                ranking(2, 2, 0, 0),
+                ranking(3, 1, 0, 0)
+            );
+        });
+
+        top3BoardRanking.reconcile();
+
+        // 3 번은 1 + 10, 5 번은 조회수만 있음
+        assertThat(top3()).containsExactly(3, 1, 2);
+        top3BoardRanking.onFavorite(5, 4);
+        top3BoardRanking.refresh();
+        assertThat(top3()).containsExactly(3, 5, 1);
+    }
+
+    @Test
+    void duplicatePostedEventKeepsTheScore() {
+        List<GetBoardRankingResultSet> resultSets = List.of(ranking(1, 3, 0, 0));
+        when(boardRepository.getRankingList(anyString())).thenReturn(resultSets);
+        top3BoardRanking.reconcile();
+
+        top3BoardRanking.onBoardPosted(1, now());
+        top3BoardRanking.onBoardPosted(2, now());
+        top3BoardRanking.onFavorite(2, 2);
+        top3BoardRanking.refresh();
+
+        assertThat(top3()).containsExactly(1, 2);
+    }
+
+    private List<Integer> top3() {
+        List<Integer> boardNumbers = new ArrayList<>();
+        for (GetBoardListResultSet resultSet : top3BoardRanking.getTop3()) boardNumbers.add(resultSet.getBoardNumber());
+        return boardNumbers;
+    }
+
+    private static GetBoardRankingResultSet ranking(int boardNumber, int favoriteCount, int commentCount, int viewCount) {
+        GetBoardRankingResultSet resultSet = mock(GetBoardRankingResultSet.class);
+        when(resultSet.getBoardNumber()).thenReturn(boardNumber);
+        when(resultSet.getWriteDatetime()).thenReturn(now());
+        when(resultSet.getFavoriteCount()).thenReturn(favoriteCount);
+        when(resultSet.getCommentCount()).thenReturn(commentCount);
+        when(resultSet.getViewCount()).thenReturn(viewCount);
+        return resultSet;
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DATETIME_FORMATTER);
+    }
+
+}
@@ -0,0 +1,173 @@
+package board.search;
+
+import board.config.BackgroundThreadFactory;
+import board.entity.BoardEntity;
+import board.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardSearchIndexTest {
+
+    private BoardRepository boardRepository;
+    private BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        boardSearchIndex = new BoardSearchIndex(boardRepository, new BackgroundThreadFactory(false), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void ranksTitleMatchesFirstThenLatest() {
+        boardSearchIndex.index(board(1, "스프링 입문", "내용", "2024-01-01 00:00:00"));
+        boardSearchIndex.index(board(2, "일상", "오늘은 스프링 공부", "2024-03-01 00:00:00"));
+        boardSearchIndex.index(board(3, "스프링 심화", "내용", "2024-02-01 00:00:00"));
+        boardSearchIndex.index(board(4, "무관", "무관한 글", "2024-04-01 00:00:00"));
+
+        // 두 글자 검색어는 bigram 하나와 같으므로 DB 확인 없이 일치
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search("스프", 0, 10);
+
+        assertThat(result.getBoardNumbers()).containsExactly(3, 1, 2);
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        verify(boardRepository, never()).getContentMatchList(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    void sameSecondPostsAreOrderedByNumberDescending() {
+        boardSearchIndex.index(board(7, "공지", "", "2024-01-01 00:00:00"));
+        boardSearchIndex.index(board(9, "공지", "", "2024-01-01 00:00:00"));
+        boardSearchIndex.index(board(8, "공지", "", "2024-01-01 00:00:00"));
+
+        assertThat(boardSearchIndex.search("공지", 0, 10).getBoardNumbers()).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    void verifiesContentCandidatesAgainstTheDatabase() {
+        // 둘 다 "hello world" 의 bigram 을 모두 포함하지만 2 번만 구문이 그대로 있음
+        boardSearchIndex.index(board(1, "a", "world hello", "2024-01-02 00:00:00"));
+        boardSearchIndex.index(board(2, "b", "say hello world", "2024-01-01 00:00:00"));
+        when(boardRepository.getContentMatchList(anyList(), eq("hello world"), anyString())).thenReturn(List.of(2));
+
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search("Hello World", 0, 10);
+
+        assertThat(result.getBoardNumbers()).containsExactly(2);
+        assertThat(result.getTotalCount()).isEqualTo(1);
+        verify(boardRepository).getContentMatchList(List.of(1, 2), "hello world", "Hello World");
+    }
+
+    @Test
+    void titlePhraseIsVerifiedInMemory() {
+        boardSearchIndex.index(board(1, "hello world", "", "2024-01-01 00:00:00"));
+        boardSearchIndex.index(board(2, "world hello", "", "2024-01-02 00:00:00"));
+        when(boardRepository.getContentMatchList(anyList(), anyString(), anyString())).thenReturn(List.of());
+
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search("hello world", 0, 10);
+
+        assertThat(result.getBoardNumbers()).containsExactly(1);
+        verify(boardRepository).getContentMatchList(List.of(2), "hello world", "hello world");
+    }
+
+    @Test
+    void pagesWithOffsetAndLimit() {
+        for (int boardNumber = 1; boardNumber <= 5; boardNumber++)
+            boardSearchIndex.index(board(boardNumber, "공지 " + boardNumber, "", "2024-01-0" + boardNumber + " 00:00:00"));
+
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search("공지", 2, 2);
+
+        assertThat(result.getBoardNumbers()).containsExactly(3, 2);
+        assertThat(result.getTotalCount()).isEqualTo(5);
+    }
+
+    @Test
+    void updateReplacesTermsAndRemoveDropsTheBoard() {
+        boardSearchIndex.index(board(1, "스프링", "", "2024-01-01 00:00:00"));
+        boardSearchIndex.index(board(1, "자바", "", "2024-01-01 00:00:00"));
+
+        assertThat(boardSearchIndex.search("스프", 0, 10).getBoardNumbers()).isEmpty();
+        assertThat(boardSearchIndex.search("자바", 0, 10).getBoardNumbers()).containsExactly(1);
+
+        boardSearchIndex.remove(1);
+
+        assertThat(boardSearchIndex.search("자바", 0, 10).getBoardNumbers()).isEmpty();
+    }
+
+    @Test
+    void punctuationOnlySearchReturnsNothing() {
+        boardSearchIndex.index(board(1, "!!!", "...", "2024-01-01 00:00:00"));
+
+        assertThat(boardSearchIndex.search("!!!", 0, 10).getTotalCount()).isZero();
+    }
+
+    @Test
+    void loadDoesNotOverwriteBoardsChangedWhileLoading() throws Exception {
+        // 적재가 게시물을 읽은 뒤 같은 게시물이 수정(1)/삭제(2)되는 경우
+        when(boardRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            List<BoardEntity> staleChunk = List.of(
+                board(1, "옛제목", "", "2024-01-01 00:00:00"),
+                board(2, "삭제될글", "", "2024-01-01 00:00:00"),
+                board(3, "그대로", "", "2024-01-01 00:00:00")
+            );
+            boardSearchIndex.index(board(1, "새제목", "", "2024-01-01 00:00:00"));
+            boardSearchIndex.remove(2);
+            return new PageImpl<>(staleChunk, PageRequest.of(0, 500), 3);
+        });
+
+        boardSearchIndex.load();
+        awaitReady();
+
+        assertThat(boardSearchIndex.search("옛제", 0, 10).getBoardNumbers()).isEmpty();
+        assertThat(boardSearchIndex.search("새제", 0, 10).getBoardNumbers()).containsExactly(1);
+        assertThat(boardSearchIndex.search("삭제", 0, 10).getBoardNumbers()).isEmpty();
+        assertThat(boardSearchIndex.search("그대", 0, 10).getBoardNumbers()).containsExactly(3);
+    }
+
+    @Test
+    void concurrentUpdatesOfTheSameBoardLeaveOneConsistentDocument() throws Exception {
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            String title = "제목" + i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 200; j++)
+                    boardSearchIndex.index(board(1, title, "", "2024-01-01 00:00:00"));
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        // 마지막으로 반영된 제목 하나의 term 만 남아야 함
+        int found = 0;
+        for (int i = 0; i < threads.length; i++) {
+            if (!boardSearchIndex.search("목" + i, 0, 10).getBoardNumbers().isEmpty()) found++;
+        }
+        assertThat(found).isEqualTo(1);
+        assertThat(boardSearchIndex.search("제목", 0, 10).getBoardNumbers()).containsExactly(1);
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!boardSearchIndex.isReady() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertThat(boardSearchIndex.isReady()).isTrue();
+    }
+
+    private static BoardEntity board(int boardNumber, String title, String content, String writeDatetime) {
+        return new BoardEntity(boardNumber, title, content, writeDatetime, 0, 0, 0, "writer@example.com", null);
+    }
+
+}
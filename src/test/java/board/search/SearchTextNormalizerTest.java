@@ -0,0 +1,65 @@
+package board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTextNormalizerTest {
+
+    @Test
+    void stripsTagsImagesAndUrls() {
+        String content = "<p>Hello <b>World</b></p>![cat](https://example.com/cat.png)<img src=\"a.png\"> see https://example.com/page now";
+
+        assertThat(SearchTextNormalizer.toSearchText(content)).isEqualTo("hello world see now");
+    }
+
+    @Test
+    void keepsTextThatOnlyLooksLikeMarkup() {
+        assertThat(SearchTextNormalizer.toSearchText("1 < 2")).isEqualTo("1 < 2");
+        assertThat(SearchTextNormalizer.toSearchText("a <> b")).isEqualTo("a <> b");
+        assertThat(SearchTextNormalizer.toSearchText("![not an image] (x)")).isEqualTo("![not an image] (x)");
+        assertThat(SearchTextNormalizer.toSearchText("http is a protocol, https:// alone too")).isEqualTo("http is a protocol, https:// alone too");
+    }
+
+    @Test
+    void collapsesWhitespaceAndLowercases() {
+        assertThat(SearchTextNormalizer.toSearchText("  Spring\n\tBOOT  검색  ")).isEqualTo("spring boot 검색");
+        assertThat(SearchTextNormalizer.toSearchText(null)).isEmpty();
+    }
+
+    @Test
+    void searchTextSeparatesTitleAndContent() {
+        assertThat(SearchTextNormalizer.searchText("Title", "<p>Body</p>")).isEqualTo("title\nbody");
+    }
+
+    @Test
+    void queryTermsUseBigramsPerWordAndUnigramsForSingleCharacters() {
+        assertThat(SearchTextNormalizer.queryTerms("게시판 a")).containsExactly("게시", "시판", "a");
+        assertThat(SearchTextNormalizer.queryTerms("Spring")).contains("sp", "ng").doesNotContain("s");
+    }
+
+    @Test
+    void punctuationOnlyInputHasNoTerms() {
+        assertThat(SearchTextNormalizer.queryTerms("!!! ... ---")).isEmpty();
+        assertThat(SearchTextNormalizer.queryTerms(SearchTextNormalizer.toSearchText("<br>"))).isEmpty();
+        assertThat(SearchTextNormalizer.fullTextKeyword("?!")).isNull();
+    }
+
+    @Test
+    void fullTextKeywordQuotesThePhraseOnlyWhenEveryWordIsIndexable() {
+        assertThat(SearchTextNormalizer.fullTextKeyword("Spring Boot")).isEqualTo("\"spring boot\"");
+        assertThat(SearchTextNormalizer.fullTextKeyword("a book")).isNull();
+        assertThat(SearchTextNormalizer.fullTextKeyword("say \"hi\"")).isNull();
+    }
+
+    @Test
+    void likeKeywordEscapesWildcards() {
+        assertThat(SearchTextNormalizer.likeKeyword("100%_done\\")).isEqualTo("100\\%\\_done\\\\");
+    }
+
+    @Test
+    void tokenizeIndexesEveryUnigramAndBigramOfEachWord() {
+        assertThat(SearchTextNormalizer.tokenize("ab c")).containsExactlyInAnyOrder("a", "ab", "b", "c");
+    }
+
+}
@@ -0,0 +1,88 @@
+package board.search;
+
+import board.repository.SearchLogRepository;
+import board.repository.SearchWordCountRepository;
+import board.repository.resultSet.GetPopularListResultSet;
+import board.repository.resultSet.GetRelationListResultSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchWordRollupTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SearchWordCountRepository searchWordCountRepository;
+    private SearchLogRepository searchLogRepository;
+    private SearchWordRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        searchWordCountRepository = mock(SearchWordCountRepository.class);
+        searchLogRepository = mock(SearchLogRepository.class);
+        rollup = new SearchWordRollup(jdbcTemplate, searchWordCountRepository, searchLogRepository, new SimpleMeterRegistry(), 24, 30000, 100);
+    }
+
+    @Test
+    void retriesOnNextRefreshAfterAFailedLoad() {
+        List<GetPopularListResultSet> counted = List.of(count("스프링", 5));
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class))).thenReturn("2000-01-01 00:00:00");
+        when(searchWordCountRepository.getPopularList(anyString(), anyInt()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(counted);
+
+        rollup.load();
+        assertThat(rollup.isReady()).isFalse();
+
+        rollup.refresh();
+        assertThat(rollup.isReady()).isTrue();
+        assertThat(rollup.getPopularList()).extracting(GetPopularListResultSet::getSearchWord).containsExactly("스프링");
+    }
+
+    @Test
+    void padsWithAllTimePopularWordsWhileWarming() {
+        List<GetPopularListResultSet> counted = List.of(count("스프링", 5));
+        List<GetPopularListResultSet> seed = List.of(count("자바", 100), count("스프링", 90));
+        // 요약 테이블이 비어 있으면 지금부터 window 를 채워야 함
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class))).thenReturn(null);
+        when(searchLogRepository.getPopularList()).thenReturn(seed);
+        when(searchWordCountRepository.getPopularList(anyString(), anyInt())).thenReturn(counted);
+
+        rollup.refresh();
+        rollup.refresh();
+
+        assertThat(rollup.isWarming()).isTrue();
+        assertThat(rollup.getPopularList()).extracting(GetPopularListResultSet::getSearchWord).containsExactly("스프링", "자바");
+        // 전체 기간 집계는 한 번만
+        verify(searchLogRepository, times(1)).getPopularList();
+    }
+
+    @Test
+    void relationListIsReadFromTheSummaryTableOncePerInterval() {
+        List<GetRelationListResultSet> relations = List.of(count("부트", 3));
+        when(searchWordCountRepository.getRelationList(eq("스프링"), anyString(), anyInt())).thenReturn(relations);
+
+        assertThat(rollup.getRelationList("스프링")).extracting(GetRelationListResultSet::getSearchWord).containsExactly("부트");
+        assertThat(rollup.getRelationList("스프링")).extracting(GetRelationListResultSet::getSearchWord).containsExactly("부트");
+
+        verify(searchWordCountRepository, times(1)).getRelationList(eq("스프링"), anyString(), anyInt());
+    }
+
+    private static SearchWordRollup.SearchWordCount count(String searchWord, int count) {
+        return new SearchWordRollup.SearchWordCount(searchWord, count);
+    }
+
+}
@@ -0,0 +1,173 @@
+package board.service.implement;
+
+import board.cache.AuthenticatedUserCache;
+import board.cache.BoardDetailCache;
+import board.cache.CommentListCache;
+import board.cache.UserBoardListCache;
+import board.counter.ViewCountBuffer;
+import board.dto.request.board.PatchBoardRequestDto;
+import board.entity.ImageEntity;
+import board.event.DomainEventPublisher;
+import board.favorite.BoardFavoriteIndex;
+import board.file.ContentAddressedFileStore;
+import board.file.ImageUrlResolver;
+import board.purge.BoardPurgeQueue;
+import board.ranking.Top3BoardRanking;
+import board.repository.*;
+import board.search.BoardSearchIndex;
+import board.search.SearchLogWriter;
+import board.search.SearchTextBackfill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 게시물 수정 시 이미지 행 변경 (patchImages) 확인
+class BoardServiceImplPatchImagesTest {
+
+    private static final int BOARD_NUMBER = 1;
+    private static final String EMAIL = "writer@example.com";
+
+    private ImageRepository imageRepository;
+    private ContentAddressedFileStore contentAddressedFileStore;
+    private BoardServiceImpl boardService;
+
+    // 저장 시 발급할 다음 sequence
+    private int nextSequence;
+
+    @BeforeEach
+    void setUp() {
+        imageRepository = mock(ImageRepository.class);
+        contentAddressedFileStore = mock(ContentAddressedFileStore.class);
+
+        BoardRepository boardRepository = mock(BoardRepository.class);
+        AuthenticatedUserCache authenticatedUserCache = mock(AuthenticatedUserCache.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(authenticatedUserCache.exists(EMAIL)).thenReturn(true);
+        when(boardRepository.patchBoard(eq(BOARD_NUMBER), eq(EMAIL), anyString(), anyString(), any())).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class))
+        );
+        when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ImageEntity> imageEntities = invocation.getArgument(0);
+            for (ImageEntity imageEntity : imageEntities)
+                ReflectionTestUtils.setField(imageEntity, "sequence", nextSequence++);
+            return imageEntities;
+        });
+
+        boardService = new BoardServiceImpl(
+            mock(UserRepository.class),
+            boardRepository,
+            imageRepository,
+            mock(CommentRepository.class),
+            mock(FavoriteRepository.class),
+            mock(BoardListRepository.class),
+            mock(BoardSearchIndex.class),
+            mock(SearchLogWriter.class),
+            mock(SearchTextBackfill.class),
+            mock(BoardDetailCache.class),
+            mock(UserBoardListCache.class),
+            mock(CommentListCache.class),
+            mock(BoardFavoriteIndex.class),
+            mock(Top3BoardRanking.class),
+            mock(ViewCountBuffer.class),
+            authenticatedUserCache,
+            mock(BoardPurgeQueue.class),
+            mock(DomainEventPublisher.class),
+            contentAddressedFileStore,
+            mock(ImageUrlResolver.class),
+            transactionTemplate
+        );
+    }
+
+    @Test
+    void unchangedImageListWritesNothing() {
+        previousImages(image(10, "a"), image(11, "b"));
+
+        patch("a", "b");
+
+        verify(imageRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(imageRepository, never()).saveAll(anyList());
+        verify(contentAddressedFileStore, never()).attach(anyList());
+        verify(contentAddressedFileStore, never()).detach(anyList());
+    }
+
+    @Test
+    void keepsMatchingRowsAndOnlyDeletesAndAppendsTheDifference() {
+        previousImages(image(1, "a"), image(2, "b"), image(3, "c"));
+        nextSequence = 100;
+
+        patch("a", "c", "d");
+
+        verify(imageRepository).deleteAllByIdInBatch(List.of(2));
+        assertThat(savedImages()).containsExactly(List.of("d"));
+        verify(contentAddressedFileStore).attach(List.of("d"));
+        verify(contentAddressedFileStore).detach(List.of("b"));
+    }
+
+    @Test
+    void rewritesAllRowsWhenANewSequenceSortsBeforeAKeptRow() {
+        // 다른 인스턴스가 미리 할당받은 더 작은 구간에서 sequence 가 발급된 경우
+        previousImages(image(50, "a"), image(51, "b"));
+        nextSequence = 5;
+
+        patch("a", "b", "c");
+
+        verify(imageRepository).deleteAllByIdInBatch(List.of(50, 51, 5));
+        assertThat(savedImages()).containsExactly(List.of("c"), List.of("a", "b", "c"));
+        // 다시 쓴 행의 URL 은 참조 수를 바꾸지 않음
+        verify(contentAddressedFileStore).attach(List.of("c"));
+        verify(contentAddressedFileStore).detach(List.of());
+    }
+
+    private void previousImages(ImageEntity... imageEntities) {
+        when(imageRepository.findByBoardNumberOrderBySequenceAsc(BOARD_NUMBER)).thenReturn(List.of(imageEntities));
+    }
+
+    private void patch(String... boardImages) {
+        PatchBoardRequestDto dto = new PatchBoardRequestDto();
+        dto.setTitle("제목");
+        dto.setContent("내용");
+        dto.setBoardImageList(List.of(boardImages));
+
+        assertThat(boardService.patchBoard(dto, BOARD_NUMBER, EMAIL).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> savedImages() {
+        ArgumentCaptor<List<ImageEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(imageRepository, atLeastOnce()).saveAll(captor.capture());
+
+        List<List<String>> saved = new ArrayList<>();
+        for (List<ImageEntity> imageEntities : captor.getAllValues()) {
+            List<String> images = new ArrayList<>();
+            for (ImageEntity imageEntity : imageEntities) images.add(imageEntity.getImage());
+            saved.add(images);
+        }
+        return saved;
+    }
+
+    private static ImageEntity image(int sequence, String image) {
+        return new ImageEntity(sequence, BOARD_NUMBER, image);
+    }
+
+}